@@ -0,0 +1,36 @@
+package com.sportradar.benchmark;
+
+import com.sportradar.ScoreBoard;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * A board pre-filled with {@code boardSize} matches in progress, shared by all
+ * benchmark threads. Team names are built once here so the benchmarks measure the
+ * board and not string concatenation.
+ */
+@State(Scope.Benchmark)
+public class BoardState {
+
+    @Param({"10", "100", "1000", "10000", "100000"})
+    public int boardSize;
+
+    public ScoreBoard board;
+    public String[] homeTeams;
+    public String[] awayTeams;
+
+    @Setup(Level.Trial)
+    public void fill() {
+        board = new ScoreBoard();
+        homeTeams = new String[boardSize];
+        awayTeams = new String[boardSize];
+        for (int i = 0; i < boardSize; i++) {
+            homeTeams[i] = "Home " + i;
+            awayTeams[i] = "Away " + i;
+            board.startMatch(homeTeams[i], awayTeams[i]);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.sportradar.benchmark;
+
+import com.sportradar.Match;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Readers and writers sharing one board. Each group runs its reader and writer
+ * methods on separate threads at the same time; JMH reports each method separately.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ContendedScoreBoardBenchmark {
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next;
+        int goals;
+        // Spread writer threads over the board instead of all hammering match 0
+        boolean seeded;
+
+        int advance(int boardSize) {
+            if (!seeded) {
+                next = (int) (Thread.currentThread().threadId() * 7919 % boardSize);
+                seeded = true;
+            }
+            int index = next;
+            next = index + 1 == boardSize ? 0 : index + 1;
+            return index;
+        }
+    }
+
+    /**
+     * Dashboard-like load: many summary readers, one score writer.
+     */
+    @Benchmark
+    @Group("manyReaders")
+    @GroupThreads(7)
+    public List<Match> manyReadersRead(BoardState state) {
+        return state.board.getSummary();
+    }
+
+    @Benchmark
+    @Group("manyReaders")
+    @GroupThreads(1)
+    public void manyReadersWrite(BoardState state, Cursor cursor) {
+        int i = cursor.advance(state.boardSize);
+        state.board.updateScore(state.homeTeams[i], state.awayTeams[i], ++cursor.goals & 15, 0);
+    }
+
+    /**
+     * Feed-like load: several concurrent score writers, one summary reader.
+     */
+    @Benchmark
+    @Group("manyWriters")
+    @GroupThreads(1)
+    public List<Match> manyWritersRead(BoardState state) {
+        return state.board.getSummary();
+    }
+
+    @Benchmark
+    @Group("manyWriters")
+    @GroupThreads(4)
+    public void manyWritersWrite(BoardState state, Cursor cursor) {
+        int i = cursor.advance(state.boardSize);
+        state.board.homeGoal(state.homeTeams[i], state.awayTeams[i]);
+    }
+}
@@ -0,0 +1,108 @@
+package com.sportradar.benchmark;
+
+import com.sportradar.FeedDecoder;
+import com.sportradar.ScoreBoard;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost per score message of the binary feed: {@link FeedDecoder} against decoding the
+ * team names of every message into strings and calling
+ * {@code ScoreBoard.updateScore(String, String, int, int)}. Run with {@code -prof gc} to
+ * compare the allocation per message too.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FeedDecoderBenchmark {
+    private static final int MESSAGES = 1024;
+
+    @Param({"100", "10000"})
+    public int boardSize;
+
+    private ScoreBoard board;
+    private FeedDecoder decoder;
+    // MESSAGES score frames by match reference
+    private ByteBuffer handleFrames;
+    // The same scores, each carrying both team names as length-prefixed UTF-8
+    private ByteBuffer namedFrames;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        board = new ScoreBoard();
+        decoder = new FeedDecoder(board);
+        ByteBuffer setup = ByteBuffer.allocate(boardSize * 64);
+        for (int i = 0; i < boardSize; i++) {
+            team(setup, 2 * i, "Home " + i);
+            team(setup, 2 * i + 1, "Away " + i);
+            setup.put(FeedDecoder.START).putInt(i).putInt(2 * i).putInt(2 * i + 1);
+        }
+        decoder.decode(setup.flip());
+
+        handleFrames = ByteBuffer.allocateDirect(MESSAGES * 13);
+        namedFrames = ByteBuffer.allocateDirect(MESSAGES * 40);
+        for (int n = 0; n < MESSAGES; n++) {
+            int i = n * 7919 % boardSize;
+            handleFrames.put(FeedDecoder.SCORE).putInt(i).putInt(n & 15).putInt(0);
+            name(namedFrames, "Home " + i);
+            name(namedFrames, "Away " + i);
+            namedFrames.putInt(n & 15).putInt(0);
+        }
+        handleFrames.flip();
+        namedFrames.flip();
+    }
+
+    private static void team(ByteBuffer buffer, int teamRef, String name) {
+        buffer.put(FeedDecoder.TEAM).putInt(teamRef);
+        name(buffer, name);
+    }
+
+    private static void name(ByteBuffer buffer, String name) {
+        byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+        buffer.putShort((short) bytes.length).put(bytes);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MESSAGES)
+    public int decodeWithHandles() {
+        handleFrames.rewind();
+        return decoder.decode(handleFrames);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MESSAGES)
+    public void decodeToStrings() {
+        ByteBuffer buffer = namedFrames;
+        buffer.rewind();
+        byte[] bytes = new byte[64];
+        while (buffer.hasRemaining()) {
+            String homeTeam = readName(buffer, bytes);
+            String awayTeam = readName(buffer, bytes);
+            board.updateScore(homeTeam, awayTeam, buffer.getInt(), buffer.getInt());
+        }
+    }
+
+    private static String readName(ByteBuffer buffer, byte[] bytes) {
+        int length = buffer.getShort();
+        buffer.get(bytes, 0, length);
+        return new String(bytes, 0, length, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,88 @@
+package com.sportradar.benchmark;
+
+import com.sportradar.Match;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single-threaded cost of each {@code ScoreBoard} operation at board sizes from 10 to
+ * 100k matches in progress.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScoreBoardBenchmark {
+
+    /**
+     * Per-thread cursor over the board's matches, so consecutive calls touch different matches.
+     */
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next;
+        int goals;
+
+        int advance(int boardSize) {
+            int index = next;
+            next = index + 1 == boardSize ? 0 : index + 1;
+            return index;
+        }
+    }
+
+    /**
+     * Starts one extra match and finishes it again, keeping the board at its size.
+     */
+    @Benchmark
+    public void startAndFinishMatch(BoardState state) {
+        state.board.startMatch("Benchmark Home", "Benchmark Away");
+        state.board.finishMatch("Benchmark Home", "Benchmark Away");
+    }
+
+    /**
+     * Sets a new score that moves the match in the summary.
+     */
+    @Benchmark
+    public void updateScore(BoardState state, Cursor cursor) {
+        int i = cursor.advance(state.boardSize);
+        state.board.updateScore(state.homeTeams[i], state.awayTeams[i], ++cursor.goals & 15, 0);
+    }
+
+    /**
+     * Reads the summary while nothing changes: the published snapshot is returned as is.
+     */
+    @Benchmark
+    public List<Match> getSummaryUnchanged(BoardState state) {
+        return state.board.getSummary();
+    }
+
+    /**
+     * Updates one score and reads the summary, so every read rebuilds the snapshot.
+     */
+    @Benchmark
+    public List<Match> updateScoreThenGetSummary(BoardState state, Cursor cursor) {
+        int i = cursor.advance(state.boardSize);
+        state.board.updateScore(state.homeTeams[i], state.awayTeams[i], ++cursor.goals & 15, 0);
+        return state.board.getSummary();
+    }
+
+    /**
+     * Reads the ten leading matches after a score update without building the full summary.
+     */
+    @Benchmark
+    public List<Match> updateScoreThenGetTopTen(BoardState state, Cursor cursor) {
+        int i = cursor.advance(state.boardSize);
+        state.board.updateScore(state.homeTeams[i], state.awayTeams[i], ++cursor.goals & 15, 0);
+        return state.board.getTopMatches(10);
+    }
+}
@@ -0,0 +1,52 @@
+package com.sportradar.benchmark;
+
+import com.sportradar.Match;
+import com.sportradar.MatchStore;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Prints the heap a {@link MatchStore} retains per stored match, on top of the
+ * {@code Match} objects themselves, which all stores share. The off-heap store's
+ * segments are not counted, which is the point of that store. The figure comes from
+ * heap usage after a full GC; measure one store per JVM, with a fixed heap, and read it
+ * as an estimate:
+ * <pre>{@code
+ * java -Xms2g -Xmx2g -cp benchmarks/target/benchmarks.jar com.sportradar.benchmark.StoreFootprint concurrent 1000000
+ * }</pre>
+ */
+public class StoreFootprint {
+
+    public static void main(String[] args) throws Exception {
+        String name = args.length > 0 ? args[0] : "concurrent";
+        int count = args.length > 1 ? Integer.parseInt(args[1]) : 1_000_000;
+        LocalDateTime now = LocalDateTime.now();
+        List<Match> matches = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Match match = new Match("Home " + i, "Away " + i, now, i + 1);
+            match.updateScore(i % 7, i % 3);
+            matches.add(match);
+        }
+
+        long before = usedHeap();
+        MatchStore store = StoreLayoutBenchmark.newStore(name);
+        for (Match match : matches) {
+            store.add(match);
+        }
+        long after = usedHeap();
+        System.out.printf("%-12s %10d matches %8.1f bytes per match%n", name, store.size(), (after - before) / (double) count);
+        if (store instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private static long usedHeap() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+}
@@ -0,0 +1,128 @@
+package com.sportradar.benchmark;
+
+import com.sportradar.ConcurrentMatchStore;
+import com.sportradar.Match;
+import com.sportradar.MatchStore;
+import com.sportradar.OffHeapMatchStore;
+import com.sportradar.PrimitiveMatchStore;
+import com.sportradar.ScoreBoard;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Clock;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the object layout of {@link ConcurrentMatchStore} (a skip list kept in
+ * summary order) with the struct-of-arrays {@link PrimitiveMatchStore} and the off-heap
+ * {@link OffHeapMatchStore} (both sorted on demand). Run {@link StoreFootprint} for the memory side of the comparison.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StoreLayoutBenchmark {
+
+    @Param({"concurrent", "primitive", "offheap"})
+    public String store;
+
+    @Param({"100", "10000", "100000"})
+    public int boardSize;
+
+    private MatchStore matches;
+    private ScoreBoard board;
+    private String[] homeTeams;
+    private String[] awayTeams;
+    private int next;
+    private int goals;
+
+    static MatchStore newStore(String name) {
+        return switch (name) {
+            case "concurrent" -> new ConcurrentMatchStore();
+            case "primitive" -> new PrimitiveMatchStore();
+            case "offheap" -> new OffHeapMatchStore();
+            default -> throw new IllegalArgumentException("Unknown store " + name + ".");
+        };
+    }
+
+    @TearDown(Level.Trial)
+    public void release() {
+        if (matches instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void fill() {
+        matches = newStore(store);
+        board = new ScoreBoard(Clock.systemUTC(), matches);
+        homeTeams = new String[boardSize];
+        awayTeams = new String[boardSize];
+        for (int i = 0; i < boardSize; i++) {
+            homeTeams[i] = "Home " + i;
+            awayTeams[i] = "Away " + i;
+            board.startMatch(homeTeams[i], awayTeams[i]);
+            // Spread totals so the sort has real work to do
+            board.updateScore(homeTeams[i], awayTeams[i], i % 7, i % 3);
+        }
+    }
+
+    /**
+     * The store's share of a score update: skip list reposition versus one column write.
+     */
+    @Benchmark
+    public void updateScore() {
+        int i = advance();
+        board.updateScore(homeTeams[i], awayTeams[i], ++goals & 7, 0);
+    }
+
+    /**
+     * Producing the full summary order straight from the store, without the board's snapshot.
+     */
+    @Benchmark
+    public List<Match> summaryOrder() {
+        return matches.inSummaryOrder();
+    }
+
+    /**
+     * Producing the ten leading matches straight from the store.
+     */
+    @Benchmark
+    public List<Match> topTen() {
+        return matches.inSummaryOrder(10);
+    }
+
+    /**
+     * An update followed by a summary read, i.e. the summary is rebuilt on every call.
+     */
+    @Benchmark
+    public List<Match> updateScoreThenGetSummary() {
+        int i = advance();
+        board.updateScore(homeTeams[i], awayTeams[i], ++goals & 7, 0);
+        return board.getSummary();
+    }
+
+    private int advance() {
+        int index = next;
+        next = index + 1 == boardSize ? 0 : index + 1;
+        return index;
+    }
+}
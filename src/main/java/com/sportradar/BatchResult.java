@@ -0,0 +1,34 @@
+package com.sportradar;
+
+import java.util.List;
+
+/**
+ * <p>
+ * Outcome of {@link ScoreBoard#applyBatch(List)}. A batch never stops at the first bad
+ * command: every command that passes validation is applied and every one that does not
+ * is reported here with its position in the batch.
+ * </p>
+ *
+ * @param applied  The number of commands applied.
+ * @param failures The rejected commands, in batch order; unmodifiable.
+ * @since 1.0
+ */
+public record BatchResult(int applied, List<Failure> failures) {
+
+    /**
+     * @return {@code true} if every command of the batch was applied.
+     */
+    public boolean isSuccess() {
+        return failures.isEmpty();
+    }
+
+    /**
+     * A rejected command.
+     *
+     * @param index   The position of the command in the batch.
+     * @param command The rejected command.
+     * @param message Why it was rejected; the message the single-command method would have thrown.
+     */
+    public record Failure(int index, ScoreCommand command, String message) {
+    }
+}
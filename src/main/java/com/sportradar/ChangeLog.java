@@ -0,0 +1,77 @@
+package com.sportradar;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded log of the matches touched by the most recent board versions, backing
+ * {@link ScoreBoard#changesSince(long)}. Version {@code v} lives in slot
+ * {@code v % capacity}, so recording is a single array store, writers of different
+ * versions never contend, and the oldest versions are trimmed simply by being
+ * overwritten.
+ */
+final class ChangeLog {
+    private final AtomicReferenceArray<Entry> entries;
+    private final int capacity;
+
+    ChangeLog(int capacity) {
+        this.capacity = capacity;
+        this.entries = new AtomicReferenceArray<>(capacity);
+    }
+
+    private record Entry(long version, Match match, boolean finished) {
+    }
+
+    void record(long version, Match match, boolean finished) {
+        entries.set(slot(version), new Entry(version, match, finished));
+    }
+
+    /**
+     * Collects the matches touched by versions {@code (fromVersion, toVersion]}.
+     *
+     * @return The changes, or {@code null} if part of the range has already been trimmed.
+     */
+    ChangeSet collect(long fromVersion, long toVersion) {
+        if (toVersion - fromVersion > capacity) {
+            return null;
+        }
+        // Identity: a finished match and its restart between the same teams are different matches
+        Map<Match, Match> changed = new IdentityHashMap<>();
+        Map<Match, Match> finished = new IdentityHashMap<>();
+        List<Match> changedInOrder = new ArrayList<>();
+        long reached = fromVersion;
+        for (long version = fromVersion + 1; version <= toVersion; version++) {
+            Entry entry = entries.get(slot(version));
+            if (entry == null || entry.version() < version) {
+                // The writer of this version has bumped the counter but not logged yet; stop before it
+                break;
+            }
+            if (entry.version() > version) {
+                // Already overwritten by a newer version
+                return null;
+            }
+            if (entry.finished()) {
+                changed.remove(entry.match());
+                finished.put(entry.match(), entry.match());
+            } else if (changed.put(entry.match(), entry.match()) == null) {
+                changedInOrder.add(entry.match());
+            }
+            reached = version;
+        }
+        List<Match> stillChanged = new ArrayList<>(changed.size());
+        for (Match match : changedInOrder) {
+            if (changed.containsKey(match)) {
+                stillChanged.add(match);
+            }
+        }
+        return new ChangeSet(fromVersion, reached, false, List.copyOf(stillChanged), List.copyOf(finished.keySet()));
+    }
+
+    private int slot(long version) {
+        return (int) (version % capacity);
+    }
+}
@@ -0,0 +1,27 @@
+package com.sportradar;
+
+import java.util.List;
+
+/**
+ * <p>
+ * The answer to {@link ScoreBoard#changesSince(long)}: what a client holding the board
+ * at {@code fromVersion} needs to catch up to {@code toVersion}.
+ * </p>
+ *
+ * <p>
+ * Normally only the matches touched in between are listed. A client removes the
+ * {@code finished} matches first and then adds or replaces the {@code changed} ones.
+ * If the requested version has already been trimmed from the board's change log,
+ * {@code fullSnapshot} is set and {@code changed} holds every match in progress, in
+ * summary order; the client then replaces its whole view.
+ * </p>
+ *
+ * @param fromVersion  The version the client reported.
+ * @param toVersion    The version the client is at after applying this change set.
+ * @param fullSnapshot {@code true} if {@code changed} is the whole board rather than a delta.
+ * @param changed      Matches started or re-scored since {@code fromVersion}, with their current scores; unmodifiable.
+ * @param finished     Matches finished since {@code fromVersion}; unmodifiable.
+ * @since 1.0
+ */
+public record ChangeSet(long fromVersion, long toVersion, boolean fullSnapshot, List<Match> changed, List<Match> finished) {
+}
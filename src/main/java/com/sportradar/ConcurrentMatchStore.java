@@ -0,0 +1,193 @@
+package com.sportradar;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * <p>
+ * Default {@link MatchStore}. Matches are indexed twice: a {@link LongKeyIndex}
+ * keyed by {@link Match#key(String, String)} serves lookups without allocating, and a
+ * {@link ConcurrentSkipListMap} keyed by total score and start sequence keeps them in
+ * summary order. Adding and removing a match are O(log n) and never copy the board;
+ * a match is repositioned in the skip list only when its total score changes, so
+ * {@link #inSummaryOrder()} is a linear walk with no sorting.
+ * </p>
+ *
+ * <p>
+ * Both maps scale with the number of writer threads. Repositioning holds the monitor
+ * of that match's index entry only, so updates to different matches never contend.
+ * Moving a match in the skip list is a remove followed by a put, so a walk between the
+ * two would miss the match, or list it twice if the walk meets both keys. Moves therefore
+ * share a lock that the summary walks take exclusively: moves run in parallel with each
+ * other, and every walk sees each match exactly once. Adds and removes are single skip
+ * list operations and need no lock.
+ * </p>
+ *
+ * @see ScoreBoard
+ * @since 1.0
+ */
+public class ConcurrentMatchStore implements MatchStore {
+    // Lookup index keyed by Match.key(homeTeam, awayTeam).
+    private final LongKeyIndex<Entry> matchesByKey = new LongKeyIndex<>(entry -> entry.match.getKey());
+    // The same matches in summary order: total score descending, then most recently started first.
+    private final ConcurrentSkipListMap<SummaryKey, Match> summaryOrder = new ConcurrentSkipListMap<>();
+    // Read mode is taken by moves within summaryOrder, write mode by summary walks
+    private final StampedLock walkLock = new StampedLock();
+
+    @Override
+    public boolean add(Match match) {
+        Entry entry = new Entry(match);
+        // putIfAbsent doubles as the duplicate check, so two concurrent adds cannot both win
+        if (matchesByKey.putIfAbsent(entry) != null) {
+            return false;
+        }
+        synchronized (entry) {
+            // A concurrent remove may already have taken the entry out of the index
+            if (!entry.removed) {
+                summaryOrder.put(entry.summaryKey(), match);
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public Match get(long key) {
+        Entry entry = matchesByKey.get(key);
+        return entry == null ? null : entry.match;
+    }
+
+    @Override
+    public boolean updateScore(Match match, int homeScore, int awayScore) {
+        Entry entry = entryOf(match);
+        if (entry == null) {
+            return false;
+        }
+        synchronized (entry) {
+            if (entry.removed) {
+                return false;
+            }
+            entry.match.updateScore(homeScore, awayScore);
+            refile(entry);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean reposition(Match match) {
+        Entry entry = entryOf(match);
+        if (entry == null) {
+            return false;
+        }
+        synchronized (entry) {
+            if (entry.removed) {
+                return false;
+            }
+            refile(entry);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean remove(Match match) {
+        Entry removed = entryOf(match);
+        if (removed == null || !matchesByKey.remove(removed)) {
+            return false;
+        }
+        synchronized (removed) {
+            removed.removed = true;
+            summaryOrder.remove(removed.summaryKey());
+        }
+        return true;
+    }
+
+    @Override
+    public List<Match> inSummaryOrder() {
+        // The skip list is already in summary order, so this is a single walk without sorting
+        long stamp = walkLock.writeLock();
+        try {
+            return List.copyOf(summaryOrder.values());
+        } finally {
+            walkLock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public List<Match> inSummaryOrder(int limit) {
+        List<Match> top = new ArrayList<>(Math.min(limit, 64));
+        long stamp = walkLock.writeLock();
+        try {
+            Iterator<Match> walk = summaryOrder.values().iterator();
+            while (top.size() < limit && walk.hasNext()) {
+                top.add(walk.next());
+            }
+        } finally {
+            walkLock.unlockWrite(stamp);
+        }
+        return Collections.unmodifiableList(top);
+    }
+
+    @Override
+    public int size() {
+        // ConcurrentSkipListMap.size() walks the whole list, the hash index keeps a counter
+        return matchesByKey.size();
+    }
+
+    // Caller holds the entry's monitor. The score may change again right after it is read,
+    // but that change is followed by its own refile, which then sees the newer total.
+    private void refile(Entry entry) {
+        int newTotal = entry.match.getTotalScore();
+        if (newTotal != entry.rankedTotal) {
+            long stamp = walkLock.readLock();
+            try {
+                summaryOrder.remove(entry.summaryKey());
+                entry.rankedTotal = newTotal;
+                summaryOrder.put(entry.summaryKey(), entry.match);
+            } finally {
+                walkLock.unlockRead(stamp);
+            }
+        }
+    }
+
+    private Entry entryOf(Match match) {
+        Entry entry = matchesByKey.get(match.getKey());
+        // The key may meanwhile belong to a restarted match between the same teams
+        return entry != null && entry.match == match ? entry : null;
+    }
+
+    /**
+     * Position of a match in the summary. Higher total scores sort first and,
+     * for equal totals, the later start (higher start sequence) sorts first.
+     * Start sequences are unique, so no two matches ever share a key.
+     */
+    private record SummaryKey(int totalScore, long startSequence) implements Comparable<SummaryKey> {
+        @Override
+        public int compareTo(SummaryKey other) {
+            int byScore = Integer.compare(other.totalScore, totalScore);
+            return byScore != 0 ? byScore : Long.compare(other.startSequence, startSequence);
+        }
+    }
+
+    /**
+     * Index entry of a stored match. {@code rankedTotal} is the total score the
+     * match is currently filed under in {@code summaryOrder}; it and {@code removed}
+     * are only touched while holding the entry's monitor.
+     */
+    private static final class Entry {
+        private final Match match;
+        private int rankedTotal;
+        private boolean removed;
+
+        private Entry(Match match) {
+            this.match = match;
+            this.rankedTotal = match.getTotalScore();
+        }
+
+        private SummaryKey summaryKey() {
+            return new SummaryKey(rankedTotal, match.getStartSequence());
+        }
+    }
+}
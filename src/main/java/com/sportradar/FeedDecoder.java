@@ -0,0 +1,272 @@
+package com.sportradar;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * <p>
+ * Decodes the provider's binary feed straight from a {@link ByteBuffer} and applies it
+ * to a {@link ScoreBoard}. Teams and matches are referred to by the feed's own integer
+ * references, which the decoder resolves once: a team name is decoded when the team is
+ * declared, and a match's {@link Match} is kept as its handle from the start frame on.
+ * Score and finish frames therefore go to the board without building a team name, a
+ * key or any other object.
+ * </p>
+ *
+ * <h3>Frames:</h3>
+ * <p>
+ * Every frame starts with a one-byte type. Integers are read in the buffer's byte order,
+ * big-endian unless the caller changed it.
+ * </p>
+ * <table>
+ * <caption>Frame layouts</caption>
+ * <tr><td>{@link #TEAM}</td><td>{@code int teamRef, unsigned short length, length bytes of UTF-8 name}</td></tr>
+ * <tr><td>{@link #START}</td><td>{@code int matchRef, int homeTeamRef, int awayTeamRef}</td></tr>
+ * <tr><td>{@link #SCORE}</td><td>{@code int matchRef, int homeScore, int awayScore}</td></tr>
+ * <tr><td>{@link #FINISH}</td><td>{@code int matchRef}</td></tr>
+ * </table>
+ *
+ * <h3>Errors:</h3>
+ * <p>
+ * A frame the board refuses, such as a score for a match that is not in progress or a
+ * start of a match already in progress, is counted in {@link #getRejectedCount()} and
+ * skipped, so one bad message does not stall the feed. Frames that cannot be parsed at
+ * all mean the stream is corrupt and stop decoding with an {@code IllegalArgumentException}.
+ * </p>
+ *
+ * <h3>Usage:</h3>
+ * <pre>{@code
+ * FeedDecoder decoder = new FeedDecoder(scoreboard);
+ * while (channel.read(buffer) >= 0) {
+ *     buffer.flip();
+ *     decoder.decode(buffer);
+ *     buffer.compact();
+ * }
+ * }</pre>
+ * <p>
+ * A decoder keeps the references of one feed and is not thread-safe. Several decoders
+ * can feed the same board concurrently.
+ * </p>
+ *
+ * @see ScoreBoard
+ * @since 1.0
+ */
+public class FeedDecoder {
+    /** Declares a team reference. */
+    public static final byte TEAM = 1;
+    /** Starts a match between two declared teams. */
+    public static final byte START = 2;
+    /** Sets the score of a started match. */
+    public static final byte SCORE = 3;
+    /** Finishes a started match. */
+    public static final byte FINISH = 4;
+
+    private static final int TEAM_HEADER = 1 + 4 + 2;
+    private static final int START_LENGTH = 1 + 4 + 4 + 4;
+    private static final int SCORE_LENGTH = 1 + 4 + 4 + 4;
+    private static final int FINISH_LENGTH = 1 + 4;
+
+    private final ScoreBoard board;
+    private final IntTable<String> teams = new IntTable<>();
+    private final IntTable<Match> matches = new IntTable<>();
+    private byte[] nameBytes = new byte[64];
+    private long rejected;
+
+    public FeedDecoder(ScoreBoard board) {
+        if (board == null) {
+            throw new IllegalArgumentException("Board cannot be null.");
+        }
+        this.board = board;
+    }
+
+    /**
+     * Applies every complete frame between the buffer's position and limit. The position
+     * is left at the start of a trailing incomplete frame, if any, so the caller can
+     * compact the buffer and append the rest of it.
+     *
+     * @param buffer The bytes received from the feed.
+     * @return The number of frames consumed, including rejected ones.
+     * @throws IllegalArgumentException if a frame has an unknown type; the position is left at that frame.
+     */
+    public int decode(ByteBuffer buffer) {
+        int frames = 0;
+        while (buffer.hasRemaining()) {
+            int start = buffer.position();
+            int available = buffer.remaining();
+            byte type = buffer.get(start);
+            int length = switch (type) {
+                case TEAM -> available < TEAM_HEADER ? TEAM_HEADER : TEAM_HEADER + Short.toUnsignedInt(buffer.getShort(start + 5));
+                case START -> START_LENGTH;
+                case SCORE -> SCORE_LENGTH;
+                case FINISH -> FINISH_LENGTH;
+                default -> throw new IllegalArgumentException("Unknown frame type " + type + " at position " + start + ".");
+            };
+            if (available < length) {
+                break;
+            }
+            int matchOrTeamRef = buffer.getInt(start + 1);
+            switch (type) {
+                case TEAM -> declareTeam(matchOrTeamRef, buffer, start + TEAM_HEADER, length - TEAM_HEADER);
+                case START -> start(matchOrTeamRef, buffer.getInt(start + 5), buffer.getInt(start + 9));
+                case SCORE -> score(matchOrTeamRef, buffer.getInt(start + 5), buffer.getInt(start + 9));
+                default -> finish(matchOrTeamRef);
+            }
+            buffer.position(start + length);
+            frames++;
+        }
+        return frames;
+    }
+
+    /**
+     * @return How many frames the board refused since this decoder was created.
+     */
+    public long getRejectedCount() {
+        return rejected;
+    }
+
+    private void declareTeam(int teamRef, ByteBuffer buffer, int offset, int length) {
+        String name;
+        if (buffer.hasArray()) {
+            name = new String(buffer.array(), buffer.arrayOffset() + offset, length, StandardCharsets.UTF_8);
+        } else {
+            if (nameBytes.length < length) {
+                nameBytes = new byte[Math.max(length, 2 * nameBytes.length)];
+            }
+            buffer.get(offset, nameBytes, 0, length);
+            name = new String(nameBytes, 0, length, StandardCharsets.UTF_8);
+        }
+        // Not registered here: the board registers teams when a match between them starts
+        teams.put(teamRef, name);
+    }
+
+    private void start(int matchRef, int homeTeamRef, int awayTeamRef) {
+        String homeTeam = teams.get(homeTeamRef);
+        String awayTeam = teams.get(awayTeamRef);
+        if (homeTeam == null || awayTeam == null || matches.get(matchRef) != null) {
+            rejected++;
+            return;
+        }
+        try {
+            matches.put(matchRef, board.startMatch(homeTeam, awayTeam));
+        } catch (IllegalArgumentException e) {
+            rejected++;
+        }
+    }
+
+    private void score(int matchRef, int homeScore, int awayScore) {
+        Match match = matches.get(matchRef);
+        if (match == null || homeScore < 0 || awayScore < 0) {
+            rejected++;
+            return;
+        }
+        try {
+            board.applyScore(match, homeScore, awayScore);
+        } catch (IllegalArgumentException e) {
+            // Finished through another path; the handle is stale
+            matches.remove(matchRef);
+            rejected++;
+        }
+    }
+
+    private void finish(int matchRef) {
+        Match match = matches.remove(matchRef);
+        if (match == null) {
+            rejected++;
+            return;
+        }
+        try {
+            board.finish(match);
+        } catch (IllegalArgumentException e) {
+            rejected++;
+        }
+    }
+
+    /**
+     * Open-addressing map from feed references to values, with linear probing and
+     * backward-shift deletion, so lookups neither box the reference nor allocate.
+     */
+    private static final class IntTable<V> {
+        private int[] keys = new int[16];
+        private Object[] values = new Object[16];
+        private int size;
+
+        V get(int key) {
+            int mask = keys.length - 1;
+            for (int i = hash(key) & mask; values[i] != null; i = (i + 1) & mask) {
+                if (keys[i] == key) {
+                    return value(i);
+                }
+            }
+            return null;
+        }
+
+        void put(int key, V value) {
+            int mask = keys.length - 1;
+            int i = hash(key) & mask;
+            while (values[i] != null && keys[i] != key) {
+                i = (i + 1) & mask;
+            }
+            if (values[i] == null) {
+                size++;
+            }
+            keys[i] = key;
+            values[i] = value;
+            // Keep at least half of the slots empty so probes stay short
+            if (size * 2 > keys.length) {
+                grow();
+            }
+        }
+
+        V remove(int key) {
+            int mask = keys.length - 1;
+            int i = hash(key) & mask;
+            while (values[i] != null && keys[i] != key) {
+                i = (i + 1) & mask;
+            }
+            if (values[i] == null) {
+                return null;
+            }
+            V removed = value(i);
+            size--;
+            // Shift later entries of the probe run back, so no removal markers are needed
+            for (int next = (i + 1) & mask; values[next] != null; next = (next + 1) & mask) {
+                int home = hash(keys[next]) & mask;
+                if (((next - home) & mask) >= ((next - i) & mask)) {
+                    keys[i] = keys[next];
+                    values[i] = values[next];
+                    i = next;
+                }
+            }
+            values[i] = null;
+            return removed;
+        }
+
+        private void grow() {
+            int[] oldKeys = keys;
+            Object[] oldValues = values;
+            keys = new int[oldKeys.length * 2];
+            values = new Object[oldValues.length * 2];
+            int mask = keys.length - 1;
+            for (int j = 0; j < oldKeys.length; j++) {
+                if (oldValues[j] != null) {
+                    int i = hash(oldKeys[j]) & mask;
+                    while (values[i] != null) {
+                        i = (i + 1) & mask;
+                    }
+                    keys[i] = oldKeys[j];
+                    values[i] = oldValues[j];
+                }
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private V value(int i) {
+            return (V) values[i];
+        }
+
+        private static int hash(int key) {
+            int h = key * 0x9E37_79B9;
+            return h ^ (h >>> 16);
+        }
+    }
+}
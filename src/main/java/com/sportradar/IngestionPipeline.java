@@ -0,0 +1,329 @@
+package com.sportradar;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * <p>
+ * A single-writer front end for a {@link ScoreBoard}. Any number of producer threads
+ * publish start, update and finish commands into a pre-allocated ring buffer, and one
+ * writer thread applies them to the board in publication order. The board is then only
+ * ever mutated by that thread, so its per-match monitors and store locks are never
+ * contended, and commands from all producers are applied in one deterministic order.
+ * </p>
+ *
+ * <h3>Ring buffer:</h3>
+ * <p>
+ * The ring is a set of parallel arrays, one field per column, allocated once with a
+ * power-of-two capacity. A producer claims a sequence number with a compare-and-set
+ * on a shared counter, fills the slot and publishes it with a release store of its sequence; the
+ * writer reads the sequence with an acquire load before reading the slot. No lock is
+ * taken on either side and publishing allocates nothing. A producer that finds the ring
+ * full spins, then yields, then parks until the writer frees a slot, which is the
+ * pipeline's back-pressure.
+ * </p>
+ *
+ * <h3>Republishing:</h3>
+ * <p>
+ * The writer drains every command that has been published, up to a full ring, as one
+ * batch. With {@code republishSummary} enabled it then publishes the board's summary
+ * once for the whole batch, so readers find a current {@link SummarySnapshot} instead
+ * of rebuilding it themselves, and the rebuild cost is paid once per batch rather than
+ * once per command. Batches grow with load, so a busy feed republishes less often.
+ * </p>
+ *
+ * <h3>Errors:</h3>
+ * <p>
+ * A command the board rejects with an {@link IllegalArgumentException}, e.g. an update
+ * of a match that is not in progress, is counted in {@link #getRejectedCount()} and does
+ * not stop the writer, like a rejected command of {@link ScoreBoard#applyBatch(java.util.List)}.
+ * Any other failure, e.g. of a closed store, ends the writer and closes the pipeline:
+ * later calls of {@link #flush()} and the publish methods throw an
+ * {@link IllegalStateException} with that failure as its cause. That includes a publish
+ * that claimed its slot just before the failure and finished filling it afterwards, so
+ * no publish returns normally with a command the dead writer will never apply.
+ * </p>
+ *
+ * <h3>Usage:</h3>
+ * <pre>{@code
+ * try (IngestionPipeline pipeline = IngestionPipeline.start(scoreboard, 65536, true)) {
+ *     pipeline.publishStart("Mexico", "Canada");     // from any thread
+ *     pipeline.publishUpdate("Mexico", "Canada", 0, 1);
+ *     pipeline.flush();                               // wait until both are on the board
+ * }
+ * }</pre>
+ *
+ * @see ScoreBoard
+ * @since 1.0
+ */
+public class IngestionPipeline implements AutoCloseable {
+    private static final byte START = 1;
+    private static final byte UPDATE = 2;
+    private static final byte FINISH = 3;
+    // Empty polls the writer backs off through before it parks until a producer wakes it
+    private static final int SPINS_BEFORE_PARK = 1000;
+    // Set in claimed by close(), so no sequence can be claimed after the writer's last check
+    private static final long CLOSED = Long.MIN_VALUE;
+
+    private final ScoreBoard board;
+    private final boolean republishSummary;
+    private final int mask;
+
+    // Slot columns, indexed by sequence & mask
+    private final byte[] types;
+    private final String[] homeTeams;
+    private final String[] awayTeams;
+    private final int[] homeScores;
+    private final int[] awayScores;
+    // The sequence last published into each slot; -1 until the first one
+    private final AtomicLongArray published;
+
+    // Next sequence to hand out to a producer, plus the CLOSED bit
+    private final AtomicLong claimed = new AtomicLong();
+    // Number of commands the writer has applied; the slots of later sequences are busy
+    private volatile long applied;
+    private volatile boolean writerParked;
+    private volatile long rejected;
+    // Why the writer stopped before the pipeline was closed, if it did
+    private volatile Throwable failure;
+    private final Thread writer;
+
+    /**
+     * Creates a pipeline and starts its writer thread.
+     *
+     * @param board            The board to apply commands to. Mutating it through other paths
+     *                         as well gives up the single-writer ordering.
+     * @param capacity         The ring size, rounded up to a power of two.
+     * @param republishSummary Whether the writer publishes the summary after every batch.
+     * @return The running pipeline.
+     * @throws IllegalArgumentException if the board is null or the capacity is not positive.
+     */
+    public static IngestionPipeline start(ScoreBoard board, int capacity, boolean republishSummary) {
+        IngestionPipeline pipeline = new IngestionPipeline(board, capacity, republishSummary);
+        pipeline.writer.start();
+        return pipeline;
+    }
+
+    private IngestionPipeline(ScoreBoard board, int capacity, boolean republishSummary) {
+        if (board == null) {
+            throw new IllegalArgumentException("Board cannot be null.");
+        }
+        if (capacity <= 0 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("Capacity must be between 1 and 2^30.");
+        }
+        int size = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.board = board;
+        this.republishSummary = republishSummary;
+        this.mask = size - 1;
+        this.types = new byte[size];
+        this.homeTeams = new String[size];
+        this.awayTeams = new String[size];
+        this.homeScores = new int[size];
+        this.awayScores = new int[size];
+        this.published = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            published.set(i, -1);
+        }
+        this.writer = Thread.ofPlatform().name("scoreboard-writer").daemon().unstarted(this::runWriter);
+    }
+
+    /**
+     * Publishes {@link ScoreBoard#startMatch(String, String)}.
+     *
+     * @throws IllegalStateException if the pipeline is closed.
+     */
+    public void publishStart(String homeTeam, String awayTeam) {
+        publish(START, homeTeam, awayTeam, 0, 0);
+    }
+
+    /**
+     * Publishes {@link ScoreBoard#updateScore(String, String, int, int)}.
+     *
+     * @throws IllegalStateException if the pipeline is closed.
+     */
+    public void publishUpdate(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        publish(UPDATE, homeTeam, awayTeam, homeScore, awayScore);
+    }
+
+    /**
+     * Publishes {@link ScoreBoard#finishMatch(String, String)}.
+     *
+     * @throws IllegalStateException if the pipeline is closed.
+     */
+    public void publishFinish(String homeTeam, String awayTeam) {
+        publish(FINISH, homeTeam, awayTeam, 0, 0);
+    }
+
+    /**
+     * Publishes a command built for {@link ScoreBoard#applyBatch(java.util.List)}.
+     *
+     * @throws IllegalArgumentException if the command is null.
+     * @throws IllegalStateException if the pipeline is closed.
+     */
+    public void publish(ScoreCommand command) {
+        switch (command) {
+            case ScoreCommand.Start start -> publishStart(start.homeTeam(), start.awayTeam());
+            case ScoreCommand.Update update -> publishUpdate(update.homeTeam(), update.awayTeam(), update.homeScore(), update.awayScore());
+            case ScoreCommand.Finish finish -> publishFinish(finish.homeTeam(), finish.awayTeam());
+            case null -> throw new IllegalArgumentException("Command cannot be null.");
+        }
+    }
+
+    /**
+     * Waits until every command published before this call has been applied to the board.
+     *
+     * @throws IllegalStateException if the pipeline was closed before they were applied.
+     */
+    public void flush() {
+        long target = claimed.get() & ~CLOSED;
+        while (applied < target) {
+            if (!writer.isAlive()) {
+                throw closed();
+            }
+            LockSupport.parkNanos(1_000);
+        }
+    }
+
+    /**
+     * @return How many commands the board rejected so far.
+     */
+    public long getRejectedCount() {
+        return rejected;
+    }
+
+    /**
+     * Stops accepting commands, waits for the writer to apply the ones already published
+     * and stops it.
+     */
+    @Override
+    public void close() {
+        claimed.getAndUpdate(sequence -> sequence | CLOSED);
+        LockSupport.unpark(writer);
+        boolean interrupted = false;
+        while (writer.isAlive()) {
+            try {
+                writer.join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void publish(byte type, String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        long sequence;
+        do {
+            sequence = claimed.get();
+            if (sequence < 0) {
+                throw closed();
+            }
+        } while (!claimed.compareAndSet(sequence, sequence + 1));
+        // Wait for the writer to free the slot this sequence wraps onto
+        for (int attempt = 0; sequence - applied > mask; attempt++) {
+            if (!writer.isAlive()) {
+                throw closed();
+            }
+            backOff(attempt);
+        }
+        int slot = (int) sequence & mask;
+        types[slot] = type;
+        homeTeams[slot] = homeTeam;
+        awayTeams[slot] = awayTeam;
+        homeScores[slot] = homeScore;
+        awayScores[slot] = awayScore;
+        // Release: the fields above are visible to the writer once it sees the sequence
+        published.setRelease(slot, sequence);
+        if (writerParked) {
+            LockSupport.unpark(writer);
+        }
+        // The claim may have beaten the CLOSED bit of a writer that already failed, which would never apply it
+        if (failure != null) {
+            throw closed();
+        }
+    }
+
+    private IllegalStateException closed() {
+        return new IllegalStateException("The pipeline is closed.", failure);
+    }
+
+    private void runWriter() {
+        try {
+            drain();
+        } catch (RuntimeException | Error e) {
+            failure = e;
+            // Refuse further commands; the failure still reaches the thread's uncaught exception handler
+            claimed.getAndUpdate(sequence -> sequence | CLOSED);
+            throw e;
+        }
+    }
+
+    private void drain() {
+        long next = 0;
+        int idle = 0;
+        while (true) {
+            long batchEnd = next;
+            while (batchEnd - next <= mask && published.getAcquire((int) batchEnd & mask) == batchEnd) {
+                batchEnd++;
+            }
+            if (batchEnd == next) {
+                // Nothing can be claimed once closed, so a closed pipeline is done when every claim is applied
+                if (claimed.get() == (next | CLOSED)) {
+                    return;
+                }
+                if (idle < SPINS_BEFORE_PARK) {
+                    backOff(idle++);
+                } else {
+                    writerParked = true;
+                    // Re-check after announcing the park, so a publish in between is not missed
+                    if (published.getAcquire((int) next & mask) != next && claimed.get() >= 0) {
+                        LockSupport.parkNanos(this, 1_000_000);
+                    }
+                    writerParked = false;
+                }
+                continue;
+            }
+            idle = 0;
+            for (long sequence = next; sequence < batchEnd; sequence++) {
+                apply((int) sequence & mask);
+                // Free each slot as soon as it is applied, so producers waiting on a full ring resume early
+                applied = sequence + 1;
+            }
+            next = batchEnd;
+            if (republishSummary) {
+                board.getSummarySnapshot();
+            }
+        }
+    }
+
+    // Spin first, then give the CPU to the writer, so waiting producers do not starve it on few cores
+    private static void backOff(int attempt) {
+        if (attempt < 100) {
+            Thread.onSpinWait();
+        } else if (attempt < 200) {
+            Thread.yield();
+        } else {
+            LockSupport.parkNanos(1_000);
+        }
+    }
+
+    private void apply(int slot) {
+        String homeTeam = homeTeams[slot];
+        String awayTeam = awayTeams[slot];
+        // Do not keep the names of applied commands reachable
+        homeTeams[slot] = null;
+        awayTeams[slot] = null;
+        try {
+            switch (types[slot]) {
+                case START -> board.startMatch(homeTeam, awayTeam);
+                case UPDATE -> board.updateScore(homeTeam, awayTeam, homeScores[slot], awayScores[slot]);
+                default -> board.finishMatch(homeTeam, awayTeam);
+            }
+        } catch (IllegalArgumentException e) {
+            // Only this thread writes the counter
+            rejected = rejected + 1;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.sportradar;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * <p>
+ * A fixed-size, lock-free histogram of latencies in nanoseconds, in the style of
+ * HdrHistogram. Values are counted in log-linear buckets: every power of two is split
+ * into {@value #SUB_BUCKETS} equal buckets, so a recorded value is reported with a
+ * relative error below 1/{@value #SUB_BUCKETS}, about 1.6%, from a nanosecond up to
+ * the largest trackable value of about 18 minutes. Larger values count as that maximum.
+ * </p>
+ *
+ * <p>
+ * The buckets are allocated once, about 18 KB, and recording is an atomic increment
+ * of one bucket, so any number of threads can record concurrently without locks or
+ * allocation. A {@link #snapshot()} reads the buckets one by one; a value recorded
+ * during the read may or may not be included.
+ * </p>
+ *
+ * @see ScoreBoard#getLatencies()
+ * @since 1.0
+ */
+public final class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 6;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    // Values up to 2^40 - 1 ns are bucketed; larger ones are clamped
+    private static final long MAX_TRACKABLE = (1L << 40) - 1;
+    private static final int BUCKETS = bucketOf(MAX_TRACKABLE) + 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Counts one latency.
+     *
+     * @param nanos The latency; negative values, e.g. from a clock adjustment, count as 0.
+     */
+    public void record(long nanos) {
+        long value = Math.min(Math.max(nanos, 0), MAX_TRACKABLE);
+        counts.getAndIncrement(bucketOf(value));
+        if (value > max.get()) {
+            max.accumulateAndGet(value, Math::max);
+        }
+    }
+
+    /**
+     * @return The count, percentiles and maximum of the latencies recorded so far.
+     */
+    public Snapshot snapshot() {
+        long[] copy = new long[BUCKETS];
+        long count = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            copy[i] = counts.get(i);
+            count += copy[i];
+        }
+        long maxNanos = max.get();
+        return new Snapshot(count, percentile(copy, count, 0.5, maxNanos), percentile(copy, count, 0.99, maxNanos),
+                percentile(copy, count, 0.999, maxNanos), maxNanos);
+    }
+
+    /**
+     * Latencies of one operation, in nanoseconds. Percentiles are the highest value of
+     * the bucket they fall into, but never more than the exact maximum.
+     *
+     * @param count     How many latencies were recorded.
+     * @param p50Nanos  The median.
+     * @param p99Nanos  The 99th percentile.
+     * @param p999Nanos The 99.9th percentile.
+     * @param maxNanos  The largest latency recorded.
+     */
+    public record Snapshot(long count, long p50Nanos, long p99Nanos, long p999Nanos, long maxNanos) {
+    }
+
+    private static long percentile(long[] counts, long count, double quantile, long maxNanos) {
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(quantile * count));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(highestValueOf(i), maxNanos);
+            }
+        }
+        return maxNanos;
+    }
+
+    // The first 2 * SUB_BUCKETS values have a bucket each; above that, each power of two has SUB_BUCKETS
+    private static int bucketOf(long value) {
+        if (value < 2 * SUB_BUCKETS) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return (shift + 1) * SUB_BUCKETS + (int) ((value >>> shift) - SUB_BUCKETS);
+    }
+
+    private static long highestValueOf(int bucket) {
+        if (bucket < 2 * SUB_BUCKETS) {
+            return bucket;
+        }
+        int shift = bucket / SUB_BUCKETS - 1;
+        long lowest = (long) (bucket % SUB_BUCKETS + SUB_BUCKETS) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+}
@@ -0,0 +1,181 @@
+package com.sportradar;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToLongFunction;
+
+/**
+ * <p>
+ * Concurrent hash index of values that carry their own {@code long} key, e.g. matches
+ * keyed by {@link Match#getKey()}. Unlike a {@code ConcurrentHashMap<Long, V>} a lookup
+ * neither boxes the key nor allocates anything else.
+ * </p>
+ *
+ * <p>
+ * The index is split into segments chosen by the key's hash. Each segment is an
+ * open-addressing table with linear probing, read without locking and written under
+ * the segment's monitor; removed slots are marked and reclaimed when the segment is
+ * rehashed. A lookup racing with a write to the same key may or may not see it, like
+ * any other concurrent map.
+ * </p>
+ *
+ * @param <V> The value type.
+ */
+final class LongKeyIndex<V> {
+    private static final int SEGMENTS = 32;
+    private static final int INITIAL_CAPACITY = 16;
+    // Marks a slot whose value was removed, so probes for keys filed after it keep going
+    private static final Object REMOVED = new Object();
+
+    private final ToLongFunction<? super V> keyOf;
+    private final Segment[] segments = new Segment[SEGMENTS];
+    private final LongAdder size = new LongAdder();
+
+    LongKeyIndex(ToLongFunction<? super V> keyOf) {
+        this.keyOf = keyOf;
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments[i] = new Segment();
+        }
+    }
+
+    /**
+     * @return The value with the given key, or {@code null}.
+     */
+    V get(long key) {
+        long hash = hash(key);
+        AtomicReferenceArray<Object> table = segmentOf(hash).table;
+        int mask = table.length() - 1;
+        for (int i = slotOf(hash, mask); ; i = (i + 1) & mask) {
+            Object slot = table.get(i);
+            if (slot == null) {
+                return null;
+            }
+            if (slot != REMOVED && keyOf(slot) == key) {
+                return value(slot);
+            }
+        }
+    }
+
+    /**
+     * Adds a value unless one with the same key is present.
+     *
+     * @return The value already present, or {@code null} if this one was added.
+     */
+    V putIfAbsent(V value) {
+        long key = keyOf.applyAsLong(value);
+        long hash = hash(key);
+        Segment segment = segmentOf(hash);
+        synchronized (segment) {
+            AtomicReferenceArray<Object> table = segment.table;
+            int mask = table.length() - 1;
+            int free = -1;
+            int i = slotOf(hash, mask);
+            for (Object slot; (slot = table.get(i)) != null; i = (i + 1) & mask) {
+                if (slot == REMOVED) {
+                    if (free < 0) {
+                        free = i;
+                    }
+                } else if (keyOf(slot) == key) {
+                    return value(slot);
+                }
+            }
+            if (free >= 0) {
+                table.set(free, value);
+            } else {
+                table.set(i, value);
+                segment.used++;
+            }
+            segment.live++;
+            size.increment();
+            // Keep at least a quarter of the slots empty so probes stay short and always terminate
+            if (segment.used * 4 > table.length() * 3) {
+                segment.rehash(this);
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Removes exactly this value, compared by identity.
+     *
+     * @return {@code true} if it was present.
+     */
+    boolean remove(V value) {
+        long hash = hash(keyOf.applyAsLong(value));
+        Segment segment = segmentOf(hash);
+        synchronized (segment) {
+            AtomicReferenceArray<Object> table = segment.table;
+            int mask = table.length() - 1;
+            for (int i = slotOf(hash, mask); ; i = (i + 1) & mask) {
+                Object slot = table.get(i);
+                if (slot == null) {
+                    return false;
+                }
+                if (slot == value) {
+                    table.set(i, REMOVED);
+                    segment.live--;
+                    size.decrement();
+                    return true;
+                }
+            }
+        }
+    }
+
+    int size() {
+        return size.intValue();
+    }
+
+    private Segment segmentOf(long hash) {
+        return segments[(int) (hash >>> 59)];
+    }
+
+    private static int slotOf(long hash, int mask) {
+        return (int) hash & mask;
+    }
+
+    // Team IDs are small and dense, so the key bits are mixed before picking a segment and slot
+    private static long hash(long key) {
+        long h = key * 0x9E37_79B9_7F4A_7C15L;
+        return h ^ (h >>> 29);
+    }
+
+    @SuppressWarnings("unchecked")
+    private V value(Object slot) {
+        return (V) slot;
+    }
+
+    private long keyOf(Object slot) {
+        return keyOf.applyAsLong(value(slot));
+    }
+
+    private static final class Segment {
+        // Replaced as a whole on rehash, so readers always probe a consistent table
+        private volatile AtomicReferenceArray<Object> table = new AtomicReferenceArray<>(INITIAL_CAPACITY);
+        // Non-empty slots, including removed ones, and live values; guarded by the segment's monitor
+        private int used;
+        private int live;
+
+        private void rehash(LongKeyIndex<?> index) {
+            AtomicReferenceArray<Object> old = table;
+            int capacity = old.length();
+            // Grow when mostly live, otherwise just drop the removed markers
+            while (live * 2 >= capacity) {
+                capacity *= 2;
+            }
+            AtomicReferenceArray<Object> rehashed = new AtomicReferenceArray<>(capacity);
+            int mask = capacity - 1;
+            for (int j = 0; j < old.length(); j++) {
+                Object slot = old.get(j);
+                if (slot != null && slot != REMOVED) {
+                    int i = slotOf(hash(index.keyOf(slot)), mask);
+                    while (rehashed.get(i) != null) {
+                        i = (i + 1) & mask;
+                    }
+                    rehashed.set(i, slot);
+                }
+            }
+            used = live;
+            table = rehashed;
+        }
+    }
+}
@@ -1,33 +1,59 @@
 package com.sportradar;
 
-import java.util.List;
-
+import java.time.Duration;
+
+/**
+ * Runs a {@link MatchdaySimulator} against a fresh {@link ScoreBoard} and prints the
+ * report. Settings default to {@link MatchdaySimulator.Settings#defaults()} and can be
+ * overridden with {@code name=value} arguments, durations in minutes for simulated time
+ * and in milliseconds for {@code readIntervalMillis}:
+ * <pre>{@code
+ * java -cp target/classes com.sportradar.Main matches=500 readers=200 timeScale=3000
+ * }</pre>
+ */
 public class Main {
-    public static void main(String[] args) throws InterruptedException {
+    public static void main(String[] args) {
+        MatchdaySimulator.Settings settings = parse(args);
+        System.out.printf("Simulating %d matches in %d waves, %d writers, %d readers, %.0fx speed%n",
+                settings.matches(), settings.kickoffWaves(), settings.writers(), settings.readers(), settings.timeScale());
         ScoreBoard scoreboard = new ScoreBoard();
-        scoreboard.startMatch("Mexico", "Canada");
-        scoreboard.updateScore("Mexico", "Canada", 0, 5); // Total 5
-
-        Thread.sleep(10);
-        scoreboard.startMatch("Spain", "Brazil");
-        scoreboard.updateScore("Spain", "Brazil", 10, 2); // Total 12
-
-        Thread.sleep(10);
-        scoreboard.startMatch("Germany", "France");
-        scoreboard.updateScore("Germany", "France", 2, 2); // Total 4
-
-        Thread.sleep(10);
-        scoreboard.startMatch("Uruguay", "Italy");
-        scoreboard.updateScore("Uruguay", "Italy", 6, 6); // Total 12
-
-        Thread.sleep(10);
-        scoreboard.startMatch("Argentina", "Australia");
-        scoreboard.updateScore("Argentina", "Australia", 3, 1); // Total 4
-
-        List<Match> summary = scoreboard.getSummary();
+        MatchdaySimulator.Report report = new MatchdaySimulator(settings).run(scoreboard);
+        System.out.print(report);
+    }
 
-        for (Match m : summary) {
-            System.out.println(m);
+    static MatchdaySimulator.Settings parse(String[] args) {
+        MatchdaySimulator.Settings defaults = MatchdaySimulator.Settings.defaults();
+        int matches = defaults.matches();
+        int kickoffWaves = defaults.kickoffWaves();
+        Duration kickoffSpacing = defaults.kickoffSpacing();
+        Duration matchLength = defaults.matchLength();
+        double goalsPerMatch = defaults.goalsPerMatch();
+        int writers = defaults.writers();
+        int readers = defaults.readers();
+        Duration readInterval = defaults.readInterval();
+        double timeScale = defaults.timeScale();
+        long seed = defaults.seed();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (separator < 0) {
+                throw new IllegalArgumentException("Expected name=value but got '" + arg + "'.");
+            }
+            String value = arg.substring(separator + 1);
+            switch (arg.substring(0, separator)) {
+                case "matches" -> matches = Integer.parseInt(value);
+                case "kickoffWaves" -> kickoffWaves = Integer.parseInt(value);
+                case "kickoffSpacingMinutes" -> kickoffSpacing = Duration.ofMinutes(Long.parseLong(value));
+                case "matchLengthMinutes" -> matchLength = Duration.ofMinutes(Long.parseLong(value));
+                case "goalsPerMatch" -> goalsPerMatch = Double.parseDouble(value);
+                case "writers" -> writers = Integer.parseInt(value);
+                case "readers" -> readers = Integer.parseInt(value);
+                case "readIntervalMillis" -> readInterval = Duration.ofMillis(Long.parseLong(value));
+                case "timeScale" -> timeScale = Double.parseDouble(value);
+                case "seed" -> seed = Long.parseLong(value);
+                default -> throw new IllegalArgumentException("Unknown setting '" + arg.substring(0, separator) + "'.");
+            }
         }
+        return new MatchdaySimulator.Settings(matches, kickoffWaves, kickoffSpacing, matchLength,
+                goalsPerMatch, writers, readers, readInterval, timeScale, seed);
     }
-}
\ No newline at end of file
+}
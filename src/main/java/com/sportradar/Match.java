@@ -1,7 +1,8 @@
 package com.sportradar;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.time.LocalDateTime;
-import java.util.Objects;
 
 /**
  * <p>
@@ -16,6 +17,16 @@ import java.util.Objects;
  * but their scores can be updated via the {@link #updateScore(int, int)} method.
  * </p>
  *
+ * <p>
+ * The home and away scores are packed into a single {@code volatile long} word
+ * (home in the high 32 bits, away in the low 32 bits) that is only ever replaced
+ * as a whole. Updates are therefore atomic without locking, increments and
+ * {@link #compareAndSetScore(int, int, int, int)} are CAS loops on that word,
+ * and readers never observe a home score from one update paired with an away
+ * score from another. Use {@link #getScore()} or {@link #getTotalScore()} when
+ * both scores must come from the same update.
+ * </p>
+ *
  * <h3>Usage:</h3>
  * <pre>{@code
  * // Create a new match
@@ -35,11 +46,21 @@ import java.util.Objects;
  * @since 1.0
  */
 public class Match {
+    /**
+     * Returned by {@link #key(String, String)} for teams of which one is not registered,
+     * so no match between them can be in progress. No match has this key.
+     */
+    public static final long NO_KEY = -1L;
+
     private final String homeTeam;
     private final String awayTeam;
-    private int homeScore;
-    private int awayScore;
+    // Packed home/away score, see pack(int, int); accessed through SCORE for CAS
+    private volatile long score;
     private final LocalDateTime startTime; // Make final for immutability once set
+    private final long startSequence; // Position in the start order of the owning ScoreBoard, used for tie-breaking
+    private final int homeTeamId; // TeamRegistry.shared() IDs, so identity checks compare integers
+    private final int awayTeamId;
+    private final long key; // Case-insensitive identity, see key(String, String)
 
     // Original constructor for actual runtime usage
     public Match(String homeTeam, String awayTeam) {
@@ -48,34 +69,168 @@ public class Match {
 
     // New constructor for controlled scenarios (e.g., testing)
     public Match(String homeTeam, String awayTeam, LocalDateTime startTime) {
+        this(homeTeam, awayTeam, startTime, 0L);
+    }
+
+    /**
+     * Creates a match with an explicit start sequence. A {@link ScoreBoard} hands out
+     * strictly increasing sequences, so among matches of the same board a higher
+     * sequence always means a later start, even when the start times are equal.
+     *
+     * @param homeTeam      The name of the home team.
+     * @param awayTeam      The name of the away team.
+     * @param startTime     The wall-clock time the match started.
+     * @param startSequence The position of the match in its board's start order.
+     */
+    public Match(String homeTeam, String awayTeam, LocalDateTime startTime, long startSequence) {
         if (homeTeam == null || homeTeam.trim().isEmpty() || awayTeam == null || awayTeam.trim().isEmpty()) {
             throw new IllegalArgumentException("Team names cannot be null or empty.");
         }
-        if (homeTeam.equalsIgnoreCase(awayTeam)) {
+        TeamRegistry teams = TeamRegistry.shared();
+        // Checked before registering, so rejected names never reach the registry
+        if (teams.sameTeam(homeTeam, awayTeam)) {
+            throw new IllegalArgumentException("Home and away teams cannot be the same.");
+        }
+        this.homeTeamId = teams.register(homeTeam);
+        this.awayTeamId = teams.register(awayTeam);
+        if (homeTeamId == awayTeamId) {
+            // The registry forgot and relearned a team between the check and the registration
+            teams.release(homeTeamId);
+            teams.release(awayTeamId);
             throw new IllegalArgumentException("Home and away teams cannot be the same.");
         }
         this.homeTeam = homeTeam;
         this.awayTeam = awayTeam;
-        this.homeScore = 0;
-        this.awayScore = 0;
+        this.score = pack(0, 0);
         this.startTime = startTime; // Use the provided startTime
+        this.startSequence = startSequence;
+        this.key = key(homeTeamId, awayTeamId);
+    }
+
+    /**
+     * Builds the case-insensitive identity of a match between the given teams from their
+     * {@link TeamRegistry#shared()} IDs. Two matches are equal exactly when their keys are
+     * equal, which lets callers index matches by key without instantiating a {@code Match}
+     * first. Looking a key up never registers a name: a team that is not registered cannot
+     * be playing, so there is no key to build.
+     *
+     * @param homeTeam The name of the home team.
+     * @param awayTeam The name of the away team.
+     * @return The home/away key, never negative, or {@link #NO_KEY} if either team is not registered.
+     * @throws IllegalArgumentException if either team name is null.
+     */
+    public static long key(String homeTeam, String awayTeam) {
+        TeamRegistry teams = TeamRegistry.shared();
+        int homeTeamId = teams.find(homeTeam);
+        int awayTeamId = teams.find(awayTeam);
+        return homeTeamId == TeamRegistry.UNKNOWN || awayTeamId == TeamRegistry.UNKNOWN ? NO_KEY : key(homeTeamId, awayTeamId);
+    }
+
+    static long key(int homeTeamId, int awayTeamId) {
+        return ((long) homeTeamId << 32) | awayTeamId;
+    }
+
+    // Gives the teams back to the registry once the match is off its board for good; called once per match
+    void releaseTeams() {
+        TeamRegistry teams = TeamRegistry.shared();
+        teams.release(homeTeamId);
+        teams.release(awayTeamId);
     }
 
     public void updateScore(int newHomeScore, int newAwayScore) {
         if (newHomeScore < 0 || newAwayScore < 0) {
             throw new IllegalArgumentException("Scores cannot be negative.");
         }
-        this.homeScore = newHomeScore;
-        this.awayScore = newAwayScore;
+        this.score = pack(newHomeScore, newAwayScore);
+    }
+
+    /**
+     * Atomically sets the score to the new values if the current score is exactly
+     * the expected one.
+     *
+     * @return {@code true} if the score was replaced, {@code false} if it had changed in the meantime.
+     * @throws IllegalArgumentException if the new scores are negative.
+     */
+    public boolean compareAndSetScore(int expectedHomeScore, int expectedAwayScore, int newHomeScore, int newAwayScore) {
+        if (newHomeScore < 0 || newAwayScore < 0) {
+            throw new IllegalArgumentException("Scores cannot be negative.");
+        }
+        return SCORE.compareAndSet(this, pack(expectedHomeScore, expectedAwayScore), pack(newHomeScore, newAwayScore));
+    }
+
+    /**
+     * Atomically adds one goal to the home team.
+     *
+     * @return The new home score.
+     */
+    public int incrementHomeScore() {
+        long current;
+        long next;
+        do {
+            current = score;
+            next = pack(Math.addExact(homeOf(current), 1), awayOf(current));
+        } while (!SCORE.compareAndSet(this, current, next));
+        return homeOf(next);
+    }
+
+    /**
+     * Atomically adds one goal to the away team.
+     *
+     * @return The new away score.
+     */
+    public int incrementAwayScore() {
+        long current;
+        long next;
+        do {
+            current = score;
+            next = pack(homeOf(current), Math.addExact(awayOf(current), 1));
+        } while (!SCORE.compareAndSet(this, current, next));
+        return awayOf(next);
+    }
+
+    /**
+     * Atomically adds the given deltas to the scores, e.g. {@code (0, 1)} for an away goal
+     * or {@code (-1, 0)} for a home goal disallowed after review.
+     *
+     * @param homeDelta The change of the home score.
+     * @param awayDelta The change of the away score.
+     * @return The resulting score.
+     * @throws IllegalArgumentException if either score would become negative.
+     */
+    public Score adjustScore(int homeDelta, int awayDelta) {
+        long current;
+        long next;
+        do {
+            current = score;
+            int newHomeScore = Math.addExact(homeOf(current), homeDelta);
+            int newAwayScore = Math.addExact(awayOf(current), awayDelta);
+            if (newHomeScore < 0 || newAwayScore < 0) {
+                throw new IllegalArgumentException("Scores cannot be negative.");
+            }
+            next = pack(newHomeScore, newAwayScore);
+        } while (!SCORE.compareAndSet(this, current, next));
+        return new Score(homeOf(next), awayOf(next));
     }
 
     public int getTotalScore() {
-        return homeScore + awayScore;
+        long current = score;
+        return homeOf(current) + awayOf(current);
+    }
+
+    /**
+     * Returns both scores as read from a single update.
+     *
+     * @return The current home and away score.
+     */
+    public Score getScore() {
+        long current = score;
+        return new Score(homeOf(current), awayOf(current));
     }
 
     @Override
     public String toString() {
-        return homeTeam + " " + homeScore + " - " + awayTeam + " " + awayScore;
+        long current = score;
+        return homeTeam + " " + homeOf(current) + " - " + awayTeam + " " + awayOf(current);
     }
 
     @Override
@@ -83,14 +238,13 @@ public class Match {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         Match match = (Match) o;
-        return Objects.equals(homeTeam.toLowerCase(), match.homeTeam.toLowerCase()) &&
-                Objects.equals(awayTeam.toLowerCase(), match.awayTeam.toLowerCase());
+        return key == match.key;
     }
 
     @Override
     public int hashCode() {
-        // Hash code based on lowercased team names for consistent equals/hashCode contract
-        return Objects.hash(homeTeam.toLowerCase(), awayTeam.toLowerCase());
+        // Based on the team IDs, like equals; the home ID is spread so that A-B and B-A differ
+        return homeTeamId * 31 + awayTeamId;
     }
 
     public String getHomeTeam() {
@@ -102,14 +256,69 @@ public class Match {
     }
 
     public int getHomeScore() {
-        return homeScore;
+        return homeOf(score);
     }
 
     public int getAwayScore() {
-        return awayScore;
+        return awayOf(score);
     }
 
     public LocalDateTime getStartTime() {
         return startTime;
     }
-}
\ No newline at end of file
+
+    public long getStartSequence() {
+        return startSequence;
+    }
+
+    public int getHomeTeamId() {
+        return homeTeamId;
+    }
+
+    public int getAwayTeamId() {
+        return awayTeamId;
+    }
+
+    /**
+     * @return This match's {@link #key(String, String)}.
+     */
+    public long getKey() {
+        return key;
+    }
+
+    // Both scores as one comparable value, for change detection without allocating a Score
+    long packedScore() {
+        return score;
+    }
+
+    static long pack(int homeScore, int awayScore) {
+        return ((long) homeScore << 32) | (awayScore & 0xFFFF_FFFFL);
+    }
+
+    static int homeOf(long packedScore) {
+        return (int) (packedScore >>> 32);
+    }
+
+    static int awayOf(long packedScore) {
+        return (int) packedScore;
+    }
+
+    /**
+     * A consistent home/away score pair, as returned by {@link #getScore()}.
+     */
+    public record Score(int home, int away) {
+        public int total() {
+            return home + away;
+        }
+    }
+
+    private static final VarHandle SCORE;
+
+    static {
+        try {
+            SCORE = MethodHandles.lookup().findVarHandle(Match.class, "score", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.sportradar;
+
+import java.io.Serial;
+
+/**
+ * Thrown when a {@link ScoreBoard} is asked to start a match between two teams that are
+ * already playing each other on it. It is an {@link IllegalArgumentException}, so callers
+ * that handle every rejected request alike need not know about it;
+ * {@link ScoreBoardHttpServer} answers it with 409.
+ *
+ * @see MatchNotFoundException
+ * @since 1.0
+ */
+public class MatchInProgressException extends IllegalArgumentException {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * @param homeTeam The home team as the caller named it.
+     * @param awayTeam The away team as the caller named it.
+     */
+    public MatchInProgressException(String homeTeam, String awayTeam) {
+        super("A match between " + homeTeam + " and " + awayTeam + " is already in progress.");
+    }
+}
@@ -0,0 +1,24 @@
+package com.sportradar;
+
+import java.io.Serial;
+
+/**
+ * Thrown when a {@link ScoreBoard} is asked to change a match that is not in progress on it.
+ * It is an {@link IllegalArgumentException}, so callers that handle every rejected request
+ * alike need not know about it; {@link ScoreBoardHttpServer} answers it with 404.
+ *
+ * @see MatchInProgressException
+ * @since 1.0
+ */
+public class MatchNotFoundException extends IllegalArgumentException {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * @param homeTeam The home team as the caller named it.
+     * @param awayTeam The away team as the caller named it.
+     */
+    public MatchNotFoundException(String homeTeam, String awayTeam) {
+        super("Match " + homeTeam + " vs " + awayTeam + " not found.");
+    }
+}
@@ -0,0 +1,108 @@
+package com.sportradar;
+
+import java.util.List;
+
+/**
+ * <p>
+ * Storage backend of a {@link ScoreBoard}. A store holds the matches in progress,
+ * keyed by {@link Match#key(String, String)}, and knows how to list them in summary
+ * order: total score descending, then the most recently started match first
+ * (higher {@link Match#getStartSequence()}).
+ * </p>
+ *
+ * <p>
+ * The {@code ScoreBoard} validates input and assigns start sequences; a store only
+ * has to keep its indexes consistent. Implementations must be safe for concurrent
+ * use by any number of threads.
+ * </p>
+ *
+ * @see ConcurrentMatchStore
+ * @see ScoreBoard#ScoreBoard(java.time.Clock, MatchStore)
+ * @since 1.0
+ */
+public interface MatchStore {
+
+    /**
+     * Adds a newly started match.
+     *
+     * @param match The match to add.
+     * @return {@code true} if added, {@code false} if a match with the same key is already stored.
+     */
+    boolean add(Match match);
+
+    /**
+     * Looks up a match.
+     *
+     * @param key A key built by {@link Match#key(String, String)}.
+     * @return The stored match, or {@code null} if there is none.
+     */
+    Match get(long key);
+
+    /**
+     * Sets the score of a stored match and moves it to its new summary position.
+     * Mutations take the {@code Match} previously returned by {@link #get(long)} rather
+     * than its key, so a match finished and restarted in between is never touched by mistake.
+     *
+     * @param match     The stored match.
+     * @param homeScore The new, non-negative, home score.
+     * @param awayScore The new, non-negative, away score.
+     * @return {@code true} if updated, {@code false} if this match is no longer stored.
+     * @throws IllegalArgumentException if the store cannot hold the score; the match keeps its old score then.
+     */
+    boolean updateScore(Match match, int homeScore, int awayScore);
+
+    /**
+     * Checks, without storing anything, that {@link #updateScore(Match, int, int)} would
+     * accept the score, so a caller that writes it later can reject it right away. Stores
+     * that hold any non-negative score accept everything.
+     *
+     * @param homeScore The non-negative home score.
+     * @param awayScore The non-negative away score.
+     * @throws IllegalArgumentException if the store cannot hold the score.
+     */
+    default void checkScore(int homeScore, int awayScore) {
+    }
+
+    /**
+     * Moves a stored match to the summary position of its current score, after the score was
+     * changed in place (e.g. by {@link Match#adjustScore(int, int)}). Must tolerate the score
+     * changing again concurrently: the match ends up filed under whatever score it has last.
+     *
+     * @param match The stored match.
+     * @return {@code true} if repositioned, {@code false} if this match is no longer stored.
+     * @throws IllegalArgumentException if the store cannot hold the current score; the match keeps its old position then.
+     */
+    boolean reposition(Match match);
+
+    /**
+     * Removes a match.
+     *
+     * @param match The stored match.
+     * @return {@code true} if removed, {@code false} if this match was no longer stored.
+     */
+    boolean remove(Match match);
+
+    /**
+     * Lists the stored matches in summary order.
+     *
+     * @return An unmodifiable list.
+     */
+    List<Match> inSummaryOrder();
+
+    /**
+     * Lists the first {@code limit} stored matches in summary order. Stores that keep
+     * their matches sorted should override this to stop after {@code limit} matches.
+     *
+     * @param limit The maximum number of matches to return, non-negative.
+     * @return An unmodifiable list of at most {@code limit} matches.
+     */
+    default List<Match> inSummaryOrder(int limit) {
+        List<Match> all = inSummaryOrder();
+        return all.subList(0, Math.min(limit, all.size()));
+    }
+
+    /**
+     * @return The number of stored matches.
+     */
+    int size();
+}
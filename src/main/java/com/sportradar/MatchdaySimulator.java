@@ -0,0 +1,298 @@
+package com.sportradar;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * <p>
+ * Drives a {@link ScoreBoard} through a simulated matchday, to size hardware before a
+ * tournament. Matches kick off in staggered waves, goals arrive as a Poisson process
+ * over the match length, every match is finished at full time, and a pool of readers
+ * keeps polling the summary the way dashboards would. Simulated time runs
+ * {@link Settings#timeScale()} times faster than real time.
+ * </p>
+ *
+ * <h3>Usage:</h3>
+ * <pre>{@code
+ * MatchdaySimulator.Report report = new MatchdaySimulator(MatchdaySimulator.Settings.defaults()).run(new ScoreBoard());
+ * System.out.println(report);
+ * }</pre>
+ *
+ * <p>
+ * Each match belongs to one writer thread, which applies its events in simulated time
+ * order, so a match is always started before its goals and finished after them. The
+ * report gives the throughput and latency percentiles of every operation, and how far
+ * the writers fell behind the schedule; a growing lag means the board cannot keep up
+ * with the requested load.
+ * </p>
+ *
+ * @since 1.0
+ */
+public class MatchdaySimulator {
+    private static final int START = 0;
+    private static final int HOME_GOAL = 1;
+    private static final int AWAY_GOAL = 2;
+    private static final int FINISH = 3;
+    private static final int SUMMARY = 4;
+    private static final String[] OPERATIONS = {"startMatch", "homeGoal", "awayGoal", "finishMatch", "getSummary"};
+    // Home sides score slightly more often
+    private static final double HOME_GOAL_SHARE = 0.55;
+
+    private final Settings settings;
+
+    public MatchdaySimulator(Settings settings) {
+        if (settings == null) {
+            throw new IllegalArgumentException("Settings cannot be null.");
+        }
+        this.settings = settings;
+    }
+
+    /**
+     * Simulation parameters. Times are simulated time.
+     *
+     * @param matches        The number of matches played on the matchday.
+     * @param kickoffWaves   The number of kickoff slots the matches are spread over.
+     * @param kickoffSpacing The time between two kickoff slots.
+     * @param matchLength    The time from kickoff to the final whistle.
+     * @param goalsPerMatch  The average number of goals in a match.
+     * @param writers        The number of threads applying match events.
+     * @param readers        The number of threads polling the summary.
+     * @param readInterval   The real time a reader waits between two polls; zero polls in a tight loop.
+     * @param timeScale      How many times faster than real time the matchday runs.
+     * @param seed           The random seed, so a run can be repeated.
+     */
+    public record Settings(int matches, int kickoffWaves, Duration kickoffSpacing, Duration matchLength,
+                           double goalsPerMatch, int writers, int readers, Duration readInterval,
+                           double timeScale, long seed) {
+
+        public Settings {
+            if (matches < 1 || kickoffWaves < 1 || writers < 1 || readers < 0) {
+                throw new IllegalArgumentException("Matches, kickoff waves and writers must be positive and readers non-negative.");
+            }
+            if (kickoffSpacing == null || matchLength == null || readInterval == null
+                    || kickoffSpacing.isNegative() || matchLength.isNegative() || readInterval.isNegative()) {
+                throw new IllegalArgumentException("Durations cannot be null or negative.");
+            }
+            if (!(goalsPerMatch >= 0) || !(timeScale > 0) || Double.isInfinite(timeScale)) {
+                throw new IllegalArgumentException("Goals per match must be non-negative and the time scale positive.");
+            }
+        }
+
+        /**
+         * A busy group-stage-like matchday: 64 matches in 8 waves 15 minutes apart,
+         * 2.7 goals per match, 4 writers, 32 readers polling every 5 ms, 1200x speed
+         * (about 10 seconds of real time).
+         */
+        public static Settings defaults() {
+            return new Settings(64, 8, Duration.ofMinutes(15), Duration.ofMinutes(90),
+                    2.7, 4, 32, Duration.ofMillis(5), 1200, 2026);
+        }
+    }
+
+    /**
+     * Latency and throughput of one operation over a run. Latencies are counted in a
+     * {@link LatencyHistogram}, so percentiles are within about 1.6% of the exact value.
+     *
+     * @param operation  The {@code ScoreBoard} method.
+     * @param count      How many times it was called.
+     * @param perSecond  Calls per second of real time.
+     * @param p50Nanos   Median latency.
+     * @param p99Nanos   99th percentile latency.
+     * @param p999Nanos  99.9th percentile latency.
+     * @param maxNanos   Highest latency.
+     */
+    public record OperationStats(String operation, long count, double perSecond,
+                                 long p50Nanos, long p99Nanos, long p999Nanos, long maxNanos) {
+    }
+
+    /**
+     * The outcome of a run.
+     *
+     * @param elapsed     Real time from the first kickoff to the last reader stopping.
+     * @param maxLagNanos The furthest any writer fell behind the simulated schedule.
+     * @param operations  The statistics per operation, for the operations that were called.
+     */
+    public record Report(Duration elapsed, long maxLagNanos, List<OperationStats> operations) {
+
+        @Override
+        public String toString() {
+            StringBuilder text = new StringBuilder();
+            text.append(String.format("Elapsed %.2f s, max schedule lag %.3f ms%n",
+                    elapsed.toNanos() / 1e9, maxLagNanos / 1e6));
+            text.append(String.format("%-12s %10s %12s %10s %10s %10s %10s%n",
+                    "operation", "count", "ops/s", "p50 us", "p99 us", "p99.9 us", "max us"));
+            for (OperationStats stats : operations) {
+                text.append(String.format("%-12s %10d %12.0f %10.1f %10.1f %10.1f %10.1f%n",
+                        stats.operation(), stats.count(), stats.perSecond(), stats.p50Nanos() / 1e3,
+                        stats.p99Nanos() / 1e3, stats.p999Nanos() / 1e3, stats.maxNanos() / 1e3));
+            }
+            return text.toString();
+        }
+    }
+
+    /**
+     * Plays the matchday against the board and waits until it is over. The teams are
+     * named {@code "Home <n>"} and {@code "Away <n>"}; none of them may be playing on the
+     * board already.
+     *
+     * @param board The board to drive.
+     * @return The run's statistics.
+     * @throws IllegalStateException if an operation failed during the run.
+     */
+    public Report run(ScoreBoard board) {
+        List<List<Event>> schedules = schedule();
+        LatencyHistogram[] latencies = new LatencyHistogram[OPERATIONS.length];
+        for (int type = 0; type < latencies.length; type++) {
+            latencies[type] = new LatencyHistogram();
+        }
+        long[] lags = new long[settings.writers()];
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        List<Thread> writers = new ArrayList<>();
+        List<Thread> readers = new ArrayList<>();
+        long origin = System.nanoTime();
+        for (int w = 0; w < settings.writers(); w++) {
+            int writer = w;
+            writers.add(Thread.ofPlatform().name("matchday-writer-" + writer).start(() ->
+                    guard(failure, () -> lags[writer] = write(board, schedules.get(writer), origin, latencies))));
+        }
+        for (int r = 0; r < settings.readers(); r++) {
+            readers.add(Thread.ofPlatform().name("matchday-reader-" + r).start(() ->
+                    guard(failure, () -> read(board, writers, latencies[SUMMARY]))));
+        }
+        joinAll(writers);
+        joinAll(readers);
+        long elapsed = System.nanoTime() - origin;
+        if (failure.get() != null) {
+            throw new IllegalStateException("The simulation failed.", failure.get());
+        }
+        return report(latencies, Arrays.stream(lags).max().orElse(0), elapsed);
+    }
+
+    private long write(ScoreBoard board, List<Event> events, long origin, LatencyHistogram[] latencies) {
+        long maxLag = 0;
+        for (Event event : events) {
+            long due = origin + (long) (event.simulatedNanos / settings.timeScale());
+            long now;
+            while ((now = System.nanoTime()) < due) {
+                LockSupport.parkNanos(due - now);
+            }
+            maxLag = Math.max(maxLag, now - due);
+            String home = "Home " + event.match;
+            String away = "Away " + event.match;
+            long begin = System.nanoTime();
+            switch (event.type) {
+                case START -> board.startMatch(home, away);
+                case HOME_GOAL -> board.homeGoal(home, away);
+                case AWAY_GOAL -> board.awayGoal(home, away);
+                case FINISH -> board.finishMatch(home, away);
+                default -> throw new IllegalStateException("Unknown event type " + event.type + ".");
+            }
+            latencies[event.type].record(System.nanoTime() - begin);
+        }
+        return maxLag;
+    }
+
+    /**
+     * Polls the summary until the last writer is done.
+     */
+    private void read(ScoreBoard board, List<Thread> writers, LatencyHistogram latencies) {
+        long interval = settings.readInterval().toNanos();
+        while (anyAlive(writers)) {
+            long begin = System.nanoTime();
+            board.getSummary();
+            latencies.record(System.nanoTime() - begin);
+            if (interval > 0) {
+                LockSupport.parkNanos(interval);
+            }
+        }
+    }
+
+    /**
+     * Builds each writer's events in simulated time order. Match {@code n} kicks off in
+     * wave {@code n % kickoffWaves} and is played by writer {@code n % writers}.
+     */
+    private List<List<Event>> schedule() {
+        SplittableRandom random = new SplittableRandom(settings.seed());
+        long spacing = settings.kickoffSpacing().toNanos();
+        long length = settings.matchLength().toNanos();
+        // Mean time between two goals of one match, for exponential inter-arrival times
+        double meanGap = settings.goalsPerMatch() > 0 ? length / settings.goalsPerMatch() : Double.POSITIVE_INFINITY;
+        List<List<Event>> schedules = new ArrayList<>();
+        for (int w = 0; w < settings.writers(); w++) {
+            schedules.add(new ArrayList<>());
+        }
+        for (int match = 0; match < settings.matches(); match++) {
+            List<Event> events = schedules.get(match % settings.writers());
+            long kickoff = (match % settings.kickoffWaves()) * spacing;
+            events.add(new Event(kickoff, START, match));
+            double t = -meanGap * Math.log(1 - random.nextDouble());
+            while (t < length) {
+                int side = random.nextDouble() < HOME_GOAL_SHARE ? HOME_GOAL : AWAY_GOAL;
+                // Goals are strictly after the kickoff and before the final whistle
+                events.add(new Event(kickoff + Math.max(1, (long) t), side, match));
+                t += -meanGap * Math.log(1 - random.nextDouble());
+            }
+            events.add(new Event(kickoff + length + 1, FINISH, match));
+        }
+        for (List<Event> events : schedules) {
+            events.sort(Comparator.comparingLong(Event::simulatedNanos));
+        }
+        return schedules;
+    }
+
+    private Report report(LatencyHistogram[] latencies, long maxLag, long elapsed) {
+        List<OperationStats> operations = new ArrayList<>();
+        for (int type = 0; type < OPERATIONS.length; type++) {
+            LatencyHistogram.Snapshot latency = latencies[type].snapshot();
+            if (latency.count() == 0) {
+                continue;
+            }
+            operations.add(new OperationStats(OPERATIONS[type], latency.count(), latency.count() * 1e9 / elapsed,
+                    latency.p50Nanos(), latency.p99Nanos(), latency.p999Nanos(), latency.maxNanos()));
+        }
+        return new Report(Duration.ofNanos(elapsed), maxLag, List.copyOf(operations));
+    }
+
+    private static boolean anyAlive(List<Thread> threads) {
+        for (Thread thread : threads) {
+            if (thread.isAlive()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void joinAll(List<Thread> threads) {
+        boolean interrupted = false;
+        for (Thread thread : threads) {
+            while (true) {
+                try {
+                    thread.join();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void guard(AtomicReference<Throwable> failure, Runnable body) {
+        try {
+            body.run();
+        } catch (Throwable t) {
+            failure.compareAndSet(null, t);
+        }
+    }
+
+    private record Event(long simulatedNanos, int type, int match) {
+    }
+}
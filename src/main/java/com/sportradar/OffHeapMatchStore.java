@@ -0,0 +1,416 @@
+package com.sportradar;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemoryLayout;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * <p>
+ * A {@link MatchStore} whose match table and key index live off-heap, in
+ * {@link MemorySegment}s allocated with the Foreign Function &amp; Memory API. It is meant
+ * for very large boards (e.g. every league worldwide), and moves the store's own
+ * bookkeeping, the index and sort data that {@link ConcurrentMatchStore} keeps in
+ * millions of small heap objects, out of the garbage collector's reach.
+ * </p>
+ *
+ * <p>
+ * It does not move the matches themselves. Every {@code Match}, with its team names,
+ * start time and score, stays on the heap, and the store keeps a reference to it,
+ * because a {@link ScoreBoard} locks on, compares by identity and hands out the very
+ * object it added. The rows duplicate what the store needs to find and sort matches;
+ * they are not lazily turned into {@code Match} views. The heap saving is the store's
+ * overhead per match, not the matches.
+ * </p>
+ *
+ * <h3>Layout:</h3>
+ * <p>
+ * Each match occupies one 24 byte row: home team ID, away team ID, start sequence and
+ * summary sort key (see {@link SortKeys}). Rows of finished matches form a free list
+ * and are reused. The key-to-row index is an open-addressing table of 16 byte
+ * entries (key, row). Both segments double when full; the old segment is freed right
+ * away rather than when the garbage collector gets to it. On the heap the store itself
+ * adds one reference per match, the one to its {@code Match}.
+ * </p>
+ *
+ * <h3>Lifecycle:</h3>
+ * <p>
+ * The off-heap memory is held until {@link #close()}; close the store once the board
+ * using it is discarded. Any use of a closed store throws {@link IllegalStateException}.
+ * </p>
+ *
+ * <p>
+ * All access holds a {@link StampedLock}, shared for lookups and summaries and exclusive
+ * for writes, so a segment is never freed while another thread reads it. Summaries copy
+ * the sort keys under the shared lock and sort the copy after releasing it.
+ * </p>
+ *
+ * @see ScoreBoard#ScoreBoard(java.time.Clock, MatchStore)
+ * @since 1.0
+ */
+public class OffHeapMatchStore implements MatchStore, AutoCloseable {
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private static final MemoryLayout ROW = MemoryLayout.structLayout(
+            ValueLayout.JAVA_INT.withName("homeTeamId"),
+            ValueLayout.JAVA_INT.withName("awayTeamId"),
+            ValueLayout.JAVA_LONG.withName("startSequence"),
+            ValueLayout.JAVA_LONG.withName("sortKey"));
+    private static final long HOME_TEAM_ID = offset(ROW, "homeTeamId");
+    private static final long AWAY_TEAM_ID = offset(ROW, "awayTeamId");
+    private static final long START_SEQUENCE = offset(ROW, "startSequence");
+    private static final long SORT_KEY = offset(ROW, "sortKey");
+    // Sort key of a free row; a free row's home team ID holds the next free row, or -1
+    private static final long FREE = -1L;
+
+    private static final MemoryLayout INDEX_ENTRY = MemoryLayout.structLayout(
+            ValueLayout.JAVA_LONG.withName("key"),
+            ValueLayout.JAVA_INT.withName("row"),
+            MemoryLayout.paddingLayout(4));
+    private static final long INDEX_KEY = offset(INDEX_ENTRY, "key");
+    private static final long INDEX_ROW = offset(INDEX_ENTRY, "row");
+    // Index markers; match keys are never negative
+    private static final long EMPTY = -1L;
+    private static final long REMOVED = -2L;
+
+    private final StampedLock lock = new StampedLock();
+
+    private Arena rowsArena;
+    private MemorySegment rows;
+    private int capacity;
+    // Rows in [0, highWater) have been used; free ones are chained from firstFree
+    private int highWater;
+    private int firstFree = -1;
+    private int size;
+    private Match[] matches;
+
+    private Arena indexArena;
+    private MemorySegment index;
+    private int indexCapacity;
+    private int indexUsed;
+
+    private boolean closed;
+
+    public OffHeapMatchStore() {
+        capacity = INITIAL_CAPACITY;
+        rowsArena = Arena.ofShared();
+        rows = rowsArena.allocate(ROW.byteSize() * capacity, ROW.byteAlignment());
+        matches = new Match[capacity];
+        indexCapacity = 2 * INITIAL_CAPACITY;
+        indexArena = Arena.ofShared();
+        index = newIndex(indexArena, indexCapacity);
+    }
+
+    @Override
+    public boolean add(Match match) {
+        SortKeys.checkStartSequence(match.getStartSequence());
+        long stamp = lock.writeLock();
+        try {
+            ensureOpen();
+            long key = match.getKey();
+            if (find(key) >= 0) {
+                return false;
+            }
+            long sortKey = SortKeys.of(SortKeys.totalOf(match.packedScore()), match.getStartSequence());
+            int row = allocateRow();
+            long at = ROW.byteSize() * row;
+            rows.set(ValueLayout.JAVA_INT, at + HOME_TEAM_ID, match.getHomeTeamId());
+            rows.set(ValueLayout.JAVA_INT, at + AWAY_TEAM_ID, match.getAwayTeamId());
+            rows.set(ValueLayout.JAVA_LONG, at + START_SEQUENCE, match.getStartSequence());
+            rows.set(ValueLayout.JAVA_LONG, at + SORT_KEY, sortKey);
+            matches[row] = match;
+            insert(key, row);
+            size++;
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public Match get(long key) {
+        long stamp = lock.readLock();
+        try {
+            ensureOpen();
+            int row = find(key);
+            return row >= 0 ? matches[row] : null;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public boolean updateScore(Match match, int homeScore, int awayScore) {
+        long stamp = lock.writeLock();
+        try {
+            int row = rowOf(match);
+            if (row < 0) {
+                return false;
+            }
+            // Build the key first, so a score the key cannot hold leaves the match untouched
+            long sortKey = sortKey(row, (long) homeScore + awayScore);
+            match.updateScore(homeScore, awayScore);
+            rows.set(ValueLayout.JAVA_LONG, ROW.byteSize() * row + SORT_KEY, sortKey);
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public void checkScore(int homeScore, int awayScore) {
+        SortKeys.checkTotal((long) homeScore + awayScore);
+    }
+
+    @Override
+    public boolean reposition(Match match) {
+        long stamp = lock.writeLock();
+        try {
+            int row = rowOf(match);
+            if (row < 0) {
+                return false;
+            }
+            // Read under the lock, so the last reposition always files the last score
+            rows.set(ValueLayout.JAVA_LONG, ROW.byteSize() * row + SORT_KEY, sortKey(row, SortKeys.totalOf(match.packedScore())));
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public boolean remove(Match match) {
+        long stamp = lock.writeLock();
+        try {
+            int row = rowOf(match);
+            if (row < 0) {
+                return false;
+            }
+            index.set(ValueLayout.JAVA_LONG, INDEX_ENTRY.byteSize() * probe(match.getKey()) + INDEX_KEY, REMOVED);
+            long at = ROW.byteSize() * row;
+            rows.set(ValueLayout.JAVA_LONG, at + SORT_KEY, FREE);
+            rows.set(ValueLayout.JAVA_INT, at + HOME_TEAM_ID, firstFree);
+            firstFree = row;
+            matches[row] = null;
+            size--;
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public List<Match> inSummaryOrder() {
+        return inSummaryOrder(Integer.MAX_VALUE);
+    }
+
+    /**
+     * When {@code limit} is much smaller than the board, the leading matches are selected
+     * straight from the rows with a bounded heap, so top-k reads copy nothing but the result.
+     */
+    @Override
+    public List<Match> inSummaryOrder(int limit) {
+        long[] keys;
+        int[] positions;
+        Match[] live;
+        int count = 0;
+        long stamp = lock.readLock();
+        try {
+            ensureOpen();
+            if (limit < size / 8) {
+                SortKeys.Top top = new SortKeys.Top(limit);
+                for (int row = 0; row < highWater; row++) {
+                    long sortKey = rows.get(ValueLayout.JAVA_LONG, ROW.byteSize() * row + SORT_KEY);
+                    if (sortKey != FREE) {
+                        top.offer(sortKey, row);
+                    }
+                }
+                int[] leading = top.valuesDescending();
+                Match[] ordered = new Match[leading.length];
+                for (int i = 0; i < leading.length; i++) {
+                    ordered[i] = matches[leading[i]];
+                }
+                return Collections.unmodifiableList(Arrays.asList(ordered));
+            }
+            keys = new long[size];
+            positions = new int[size];
+            live = new Match[size];
+            for (int row = 0; row < highWater; row++) {
+                long sortKey = rows.get(ValueLayout.JAVA_LONG, ROW.byteSize() * row + SORT_KEY);
+                if (sortKey != FREE) {
+                    keys[count] = sortKey;
+                    positions[count] = count;
+                    live[count] = matches[row];
+                    count++;
+                }
+            }
+        } finally {
+            lock.unlockRead(stamp);
+        }
+
+        SortKeys.sortDescending(keys, positions, count);
+        Match[] ordered = new Match[Math.min(limit, count)];
+        for (int i = 0; i < ordered.length; i++) {
+            ordered[i] = live[positions[i]];
+        }
+        return Collections.unmodifiableList(Arrays.asList(ordered));
+    }
+
+    @Override
+    public int size() {
+        long stamp = lock.readLock();
+        try {
+            return size;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Frees the off-heap memory. Closing an already closed store has no effect.
+     */
+    @Override
+    public void close() {
+        long stamp = lock.writeLock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            rowsArena.close();
+            indexArena.close();
+            matches = null;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("The match store is closed.");
+        }
+    }
+
+    private long sortKey(int row, long totalScore) {
+        return SortKeys.of(totalScore, rows.get(ValueLayout.JAVA_LONG, ROW.byteSize() * row + START_SEQUENCE));
+    }
+
+    // Caller holds the write lock
+    private int rowOf(Match match) {
+        ensureOpen();
+        int row = find(match.getKey());
+        // The key may meanwhile belong to a restarted match between the same teams
+        return row >= 0 && matches[row] == match ? row : -1;
+    }
+
+    private int allocateRow() {
+        if (firstFree >= 0) {
+            int row = firstFree;
+            firstFree = rows.get(ValueLayout.JAVA_INT, ROW.byteSize() * row + HOME_TEAM_ID);
+            return row;
+        }
+        if (highWater == capacity) {
+            int grown = Math.multiplyExact(capacity, 2);
+            Arena arena = Arena.ofShared();
+            MemorySegment segment = arena.allocate(ROW.byteSize() * grown, ROW.byteAlignment());
+            MemorySegment.copy(rows, 0, segment, 0, ROW.byteSize() * capacity);
+            rowsArena.close();
+            rowsArena = arena;
+            rows = segment;
+            matches = Arrays.copyOf(matches, grown);
+            capacity = grown;
+        }
+        return highWater++;
+    }
+
+    private int find(long key) {
+        long mask = indexCapacity - 1;
+        for (long i = hash(key) & mask; ; i = (i + 1) & mask) {
+            long candidate = index.get(ValueLayout.JAVA_LONG, INDEX_ENTRY.byteSize() * i + INDEX_KEY);
+            if (candidate == EMPTY) {
+                return -1;
+            }
+            if (candidate == key) {
+                return index.get(ValueLayout.JAVA_INT, INDEX_ENTRY.byteSize() * i + INDEX_ROW);
+            }
+        }
+    }
+
+    // Caller holds the write lock and knows the key is present
+    private long probe(long key) {
+        long mask = indexCapacity - 1;
+        long i = hash(key) & mask;
+        while (index.get(ValueLayout.JAVA_LONG, INDEX_ENTRY.byteSize() * i + INDEX_KEY) != key) {
+            i = (i + 1) & mask;
+        }
+        return i;
+    }
+
+    // Caller holds the write lock and knows the key is absent
+    private void insert(long key, int row) {
+        long mask = indexCapacity - 1;
+        long i = hash(key) & mask;
+        long reused = -1;
+        for (long candidate; (candidate = index.get(ValueLayout.JAVA_LONG, INDEX_ENTRY.byteSize() * i + INDEX_KEY)) != EMPTY;
+             i = (i + 1) & mask) {
+            if (candidate == REMOVED && reused < 0) {
+                reused = i;
+            }
+        }
+        if (reused >= 0) {
+            i = reused;
+        } else {
+            indexUsed++;
+        }
+        index.set(ValueLayout.JAVA_LONG, INDEX_ENTRY.byteSize() * i + INDEX_KEY, key);
+        index.set(ValueLayout.JAVA_INT, INDEX_ENTRY.byteSize() * i + INDEX_ROW, row);
+        // Keep at least half of the index empty so probes stay short
+        if (indexUsed * 2 > indexCapacity) {
+            rehashIndex();
+        }
+    }
+
+    private void rehashIndex() {
+        int grown = Math.max(Integer.highestOneBit(Math.max(size, 1) * 4), 2 * INITIAL_CAPACITY);
+        Arena arena = Arena.ofShared();
+        MemorySegment rehashed = newIndex(arena, grown);
+        long mask = grown - 1;
+        for (int row = 0; row < highWater; row++) {
+            long at = ROW.byteSize() * row;
+            if (rows.get(ValueLayout.JAVA_LONG, at + SORT_KEY) == FREE) {
+                continue;
+            }
+            long key = Match.key(rows.get(ValueLayout.JAVA_INT, at + HOME_TEAM_ID), rows.get(ValueLayout.JAVA_INT, at + AWAY_TEAM_ID));
+            long i = hash(key) & mask;
+            while (rehashed.get(ValueLayout.JAVA_LONG, INDEX_ENTRY.byteSize() * i + INDEX_KEY) != EMPTY) {
+                i = (i + 1) & mask;
+            }
+            rehashed.set(ValueLayout.JAVA_LONG, INDEX_ENTRY.byteSize() * i + INDEX_KEY, key);
+            rehashed.set(ValueLayout.JAVA_INT, INDEX_ENTRY.byteSize() * i + INDEX_ROW, row);
+        }
+        indexArena.close();
+        indexArena = arena;
+        index = rehashed;
+        indexCapacity = grown;
+        indexUsed = size;
+    }
+
+    private static MemorySegment newIndex(Arena arena, int entries) {
+        MemorySegment segment = arena.allocate(INDEX_ENTRY.byteSize() * entries, INDEX_ENTRY.byteAlignment());
+        // All ones reads as EMPTY in every key field
+        return segment.fill((byte) 0xFF);
+    }
+
+    private static long hash(long key) {
+        long h = key * 0x9E37_79B9_7F4A_7C15L;
+        return h ^ (h >>> 32);
+    }
+
+    private static long offset(MemoryLayout layout, String field) {
+        return layout.byteOffset(MemoryLayout.PathElement.groupElement(field));
+    }
+}
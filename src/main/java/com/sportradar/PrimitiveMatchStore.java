@@ -0,0 +1,360 @@
+package com.sportradar;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * <p>
+ * A {@link MatchStore} that indexes and orders matches through primitive columns, a
+ * struct-of-arrays sort-key cache. Parallel arrays indexed by slot hold the team IDs, the
+ * start sequence and a summary sort key derived from the score. Slots of finished matches
+ * are reused, and the key-to-slot index is an open-addressing table of primitives too, so
+ * the store allocates nothing per match once it has grown to the size of the board.
+ * </p>
+ *
+ * <p>
+ * {@link #inSummaryOrder()} radix-sorts a copy of the sort-key column, a contiguous
+ * {@code long[]}, and only touches a {@code Match} to put it in the result. {@link ConcurrentMatchStore}
+ * instead keeps the matches sorted at all times in a skip list, whose nodes and keys are
+ * separate heap objects. This store trades a linear-time sort per published summary for
+ * O(1) score updates and starts, which pays off when updates are much more frequent than
+ * summary rebuilds.
+ * </p>
+ *
+ * <p>
+ * The columns do not replace the {@code Match} objects: those stay the source of truth
+ * for teams and scores and are kept in a reference column, so this store holds its
+ * columns in addition to them, not instead of them. Building {@code Match} views lazily
+ * from the columns is not an option, because a {@link ScoreBoard} locks on, compares by
+ * identity and hands out the very object it added. The sort key is refreshed from the
+ * match's score on every update and reposition.
+ * </p>
+ *
+ * <p>
+ * Writes hold a single {@link StampedLock}. Lookups are optimistic reads that retry
+ * only when they overlap a write, and summaries copy the columns they need under the
+ * read lock and sort the copy after releasing it.
+ * </p>
+ *
+ * @see ScoreBoard#ScoreBoard(java.time.Clock, MatchStore)
+ * @since 1.0
+ */
+public class PrimitiveMatchStore implements MatchStore {
+    private static final int INITIAL_CAPACITY = 16;
+    // Index markers; match keys are never negative
+    private static final long EMPTY = -1L;
+    private static final long REMOVED = -2L;
+
+    private final StampedLock lock = new StampedLock();
+
+    // Columns, indexed by slot
+    private int[] homeTeamIds = new int[INITIAL_CAPACITY];
+    private int[] awayTeamIds = new int[INITIAL_CAPACITY];
+    private long[] startSequences = new long[INITIAL_CAPACITY];
+    // See SortKeys: summary order is descending sort key order
+    private long[] sortKeys = new long[INITIAL_CAPACITY];
+    private Match[] matches = new Match[INITIAL_CAPACITY];
+    // Slots in [0, highWater) that hold no match, in LIFO order
+    private int[] freeSlots = new int[INITIAL_CAPACITY];
+    private int freeCount;
+    private int highWater;
+    private int size;
+
+    // Key-to-slot index: open addressing with linear probing over two parallel arrays
+    private long[] indexKeys = newIndexKeys(2 * INITIAL_CAPACITY);
+    private int[] indexSlots = new int[2 * INITIAL_CAPACITY];
+    private int indexUsed;
+
+    @Override
+    public boolean add(Match match) {
+        SortKeys.checkStartSequence(match.getStartSequence());
+        long stamp = lock.writeLock();
+        try {
+            long key = match.getKey();
+            if (find(key) >= 0) {
+                return false;
+            }
+            long sortKey = SortKeys.of(SortKeys.totalOf(match.packedScore()), match.getStartSequence());
+            int slot = freeCount > 0 ? freeSlots[--freeCount] : allocateSlot();
+            homeTeamIds[slot] = match.getHomeTeamId();
+            awayTeamIds[slot] = match.getAwayTeamId();
+            startSequences[slot] = match.getStartSequence();
+            sortKeys[slot] = sortKey;
+            matches[slot] = match;
+            insert(key, slot);
+            size++;
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public Match get(long key) {
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0) {
+            int slot = find(key);
+            // The column may be older than the index if a write overlapped; validate() rejects it then
+            Match[] column = matches;
+            Match match = slot >= 0 && slot < column.length ? column[slot] : null;
+            if (lock.validate(stamp)) {
+                return match;
+            }
+        }
+        stamp = lock.readLock();
+        try {
+            int slot = find(key);
+            return slot >= 0 ? matches[slot] : null;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public boolean updateScore(Match match, int homeScore, int awayScore) {
+        long stamp = lock.writeLock();
+        try {
+            int slot = slotOf(match);
+            if (slot < 0) {
+                return false;
+            }
+            // Build the key first, so a score the key cannot hold leaves the match untouched
+            long sortKey = SortKeys.of((long) homeScore + awayScore, startSequences[slot]);
+            match.updateScore(homeScore, awayScore);
+            sortKeys[slot] = sortKey;
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public void checkScore(int homeScore, int awayScore) {
+        SortKeys.checkTotal((long) homeScore + awayScore);
+    }
+
+    @Override
+    public boolean reposition(Match match) {
+        long stamp = lock.writeLock();
+        try {
+            int slot = slotOf(match);
+            if (slot < 0) {
+                return false;
+            }
+            // Read under the lock, so the last reposition always files the last score
+            sortKeys[slot] = SortKeys.of(SortKeys.totalOf(match.packedScore()), startSequences[slot]);
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public boolean remove(Match match) {
+        long stamp = lock.writeLock();
+        try {
+            int slot = slotOf(match);
+            if (slot < 0) {
+                return false;
+            }
+            indexKeys[probe(match.getKey())] = REMOVED;
+            matches[slot] = null;
+            freeSlots[freeCount++] = slot;
+            size--;
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public List<Match> inSummaryOrder() {
+        return inSummaryOrder(Integer.MAX_VALUE);
+    }
+
+    /**
+     * When {@code limit} is much smaller than the board, the leading matches are selected
+     * straight from the sort-key column with a bounded heap, so top-k reads cost
+     * O(n log k) and copy nothing but the result.
+     */
+    @Override
+    public List<Match> inSummaryOrder(int limit) {
+        long[] keys;
+        int[] positions;
+        Match[] live;
+        int count;
+        long stamp = lock.readLock();
+        try {
+            if (limit < size / 8) {
+                return top(limit);
+            }
+            keys = new long[size];
+            live = new Match[size];
+            count = 0;
+            for (int slot = 0; slot < highWater; slot++) {
+                Match match = matches[slot];
+                if (match != null) {
+                    keys[count] = sortKeys[slot];
+                    live[count] = match;
+                    count++;
+                }
+            }
+        } finally {
+            lock.unlockRead(stamp);
+        }
+
+        positions = new int[count];
+        for (int i = 0; i < count; i++) {
+            positions[i] = i;
+        }
+        SortKeys.sortDescending(keys, positions, count);
+        Match[] ordered = new Match[Math.min(limit, count)];
+        for (int i = 0; i < ordered.length; i++) {
+            ordered[i] = live[positions[i]];
+        }
+        return Collections.unmodifiableList(Arrays.asList(ordered));
+    }
+
+    @Override
+    public int size() {
+        long stamp = lock.tryOptimisticRead();
+        int current = size;
+        if (lock.validate(stamp)) {
+            return current;
+        }
+        stamp = lock.readLock();
+        try {
+            return size;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    // Caller holds the write lock
+    private int slotOf(Match match) {
+        int slot = find(match.getKey());
+        // The key may meanwhile belong to a restarted match between the same teams
+        return slot >= 0 && matches[slot] == match ? slot : -1;
+    }
+
+    private int allocateSlot() {
+        if (highWater == matches.length) {
+            int capacity = matches.length * 2;
+            homeTeamIds = Arrays.copyOf(homeTeamIds, capacity);
+            awayTeamIds = Arrays.copyOf(awayTeamIds, capacity);
+            startSequences = Arrays.copyOf(startSequences, capacity);
+            sortKeys = Arrays.copyOf(sortKeys, capacity);
+            matches = Arrays.copyOf(matches, capacity);
+            freeSlots = Arrays.copyOf(freeSlots, capacity);
+        }
+        return highWater++;
+    }
+
+    /**
+     * @return The slot of the match with the given key, or -1. Safe to call under an
+     * optimistic read: it only reads, and every probe terminates because the index always
+     * has empty entries.
+     */
+    private int find(long key) {
+        long[] keys = indexKeys;
+        int[] slotsByIndex = indexSlots;
+        if (keys.length != slotsByIndex.length) {
+            // Torn read of a concurrent resize; the caller's validation fails anyway
+            return -1;
+        }
+        int mask = keys.length - 1;
+        for (int i = hash(key) & mask; ; i = (i + 1) & mask) {
+            long candidate = keys[i];
+            if (candidate == EMPTY) {
+                return -1;
+            }
+            if (candidate == key) {
+                return slotsByIndex[i];
+            }
+        }
+    }
+
+    // Caller holds the write lock and knows the key is present
+    private int probe(long key) {
+        int mask = indexKeys.length - 1;
+        int i = hash(key) & mask;
+        while (indexKeys[i] != key) {
+            i = (i + 1) & mask;
+        }
+        return i;
+    }
+
+    // Caller holds the write lock and knows the key is absent
+    private void insert(long key, int slot) {
+        int mask = indexKeys.length - 1;
+        int i = hash(key) & mask;
+        int reused = -1;
+        for (; indexKeys[i] != EMPTY; i = (i + 1) & mask) {
+            if (indexKeys[i] == REMOVED && reused < 0) {
+                reused = i;
+            }
+        }
+        if (reused >= 0) {
+            i = reused;
+        } else {
+            indexUsed++;
+        }
+        indexKeys[i] = key;
+        indexSlots[i] = slot;
+        // Keep at least half of the index empty so probes stay short
+        if (indexUsed * 2 > indexKeys.length) {
+            rehashIndex();
+        }
+    }
+
+    private void rehashIndex() {
+        int capacity = Integer.highestOneBit(Math.max(size, 1) * 4);
+        capacity = Math.max(capacity, 2 * INITIAL_CAPACITY);
+        long[] keys = newIndexKeys(capacity);
+        int[] slotsByIndex = new int[capacity];
+        int mask = capacity - 1;
+        for (int slot = 0; slot < highWater; slot++) {
+            if (matches[slot] != null) {
+                long key = Match.key(homeTeamIds[slot], awayTeamIds[slot]);
+                int i = hash(key) & mask;
+                while (keys[i] != EMPTY) {
+                    i = (i + 1) & mask;
+                }
+                keys[i] = key;
+                slotsByIndex[i] = slot;
+            }
+        }
+        indexKeys = keys;
+        indexSlots = slotsByIndex;
+        indexUsed = size;
+    }
+
+    private static long[] newIndexKeys(int capacity) {
+        long[] keys = new long[capacity];
+        Arrays.fill(keys, EMPTY);
+        return keys;
+    }
+
+    private static int hash(long key) {
+        long h = key * 0x9E37_79B9_7F4A_7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    // Caller holds the read lock
+    private List<Match> top(int k) {
+        SortKeys.Top top = new SortKeys.Top(k);
+        for (int slot = 0; slot < highWater; slot++) {
+            if (matches[slot] != null) {
+                top.offer(sortKeys[slot], slot);
+            }
+        }
+        int[] slots = top.valuesDescending();
+        Match[] ordered = new Match[slots.length];
+        for (int i = 0; i < slots.length; i++) {
+            ordered[i] = matches[slots[i]];
+        }
+        return Collections.unmodifiableList(Arrays.asList(ordered));
+    }
+}
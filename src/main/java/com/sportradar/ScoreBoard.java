@@ -1,11 +1,19 @@
 package com.sportradar;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.IdentityHashMap;
 import java.util.List;
-import java.util.Optional;
-import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
  * <p>
@@ -50,7 +58,7 @@ import java.util.stream.Collectors;
  * <li><b>Getting a Summary:</b> Retrieve a list of all ongoing matches, sorted by
  * their total score (sum of home and away scores) in descending order.
  * For matches with the same total score, they are further sorted by
- * their start time, with the most recently started match appearing first.
+ * their start order, with the most recently started match appearing first.
  * <pre>{@code
  * List<Match> currentMatches = scoreboard.getSummary();
  * for (Match match : currentMatches) {
@@ -63,12 +71,31 @@ import java.util.stream.Collectors;
  *
  * <h3>Concurrency Notes:</h3>
  * <p>
- * This scoreboard uses a {@link java.util.concurrent.CopyOnWriteArrayList} internally
- * to store matches. This provides thread-safety for read operations (which are common
- * when getting summaries) and ensures that iterators do not throw {@code ConcurrentModificationException}
- * during modifications. While suitable for scenarios with many readers and few writers,
- * for very high write concurrency, alternative concurrent collections or explicit
- * synchronization might be considered if performance becomes a bottleneck.
+ * Matches are kept in a {@link MatchStore}. The default {@link ConcurrentMatchStore}
+ * indexes them by the case-insensitive home/away pair (see {@link Match#key(String, String)})
+ * and, in a concurrent skip list, in summary order. Starting and finishing a match are
+ * O(log n) without copying the board, updating a score repositions only that match, and
+ * {@code getSummary} is a linear walk with no sorting. Updates to different matches never
+ * contend. A different store can be supplied via {@link #ScoreBoard(Clock, MatchStore)}.
+ * </p>
+ * <p>
+ * Every successful mutation bumps a version counter. Summaries are published as immutable
+ * {@link SummarySnapshot}s through a volatile reference: the first read after a mutation
+ * builds a new snapshot, and every further read of the same version returns that snapshot
+ * without copying or sorting. A burst of mutations between two reads therefore costs a
+ * single rebuild.
+ * </p>
+ * <p>
+ * Boards that receive bursts of updates for the same match can coalesce them, see
+ * {@link #ScoreBoard(Clock, MatchStore, ScoreBoardJournal, Duration)}.
+ * </p>
+ * <p>
+ * Optionally, the latencies of {@code startMatch}, {@code updateScore}, {@code finishMatch},
+ * {@code getSummary} and {@code getTopMatches} are recorded in lock-free histograms, see
+ * {@link #getLatencies()}.
+ * Starts, finishes, score writes and summary rebuilds are also emitted as JDK Flight
+ * Recorder events under <i>Sportradar / ScoreBoard</i>, at no cost while no recording
+ * enables them.
  * </p>
  *
  * @see Match
@@ -76,13 +103,133 @@ import java.util.stream.Collectors;
  * @since 1.0
  */
 public class ScoreBoard {
-    // Using CopyOnWriteArrayList for thread-safety in a multi-threaded environment,
-    // though for this simple in-memory solution, a regular ArrayList is also fine
-    // as long as external synchronization is handled if used concurrently.
-    private final List<Match> matchesInProgress;
+    private final MatchStore matches;
+    // Source of Match start sequences, used to break ties between equal total scores.
+    private final AtomicLong startSequence;
+    // Only used to stamp Match start times; ordering never depends on it.
+    private final Clock clock;
+    // Log of mutations, or null when the board is not persisted. A mutation whose record cannot be appended is not applied.
+    private final ScoreBoardJournal journal;
+    // Pending scores of updateScore calls, or null when updates are applied immediately.
+    private final UpdateCoalescer coalescer;
+    // Null unless this board records latency histograms.
+    private final OperationLatencies latencies;
+    // Number of successful mutations so far; a published summary is current iff it carries this version.
+    private final AtomicLong version = new AtomicLong();
+    // Serializes rebuilding the summary so concurrent readers of a stale version build it once.
+    private final Object summaryLock = new Object();
+    private volatile SummarySnapshot summary = SummarySnapshot.EMPTY;
+    // Which match each of the last CHANGE_LOG_CAPACITY versions touched, for changesSince.
+    private final ChangeLog changeLog = new ChangeLog(CHANGE_LOG_CAPACITY);
+    // Created on the first call to changes(); signalled after every mutation.
+    private volatile SummaryChanges changes;
+    // The last few published summaries, slot version % RETAINED_SUMMARIES, so paging cursors outlive a few changes.
+    private final AtomicReferenceArray<SummarySnapshot> recentSummaries = new AtomicReferenceArray<>(RETAINED_SUMMARIES);
+
+    // How many published summary versions paging cursors can keep walking after the board has moved on.
+    private static final int RETAINED_SUMMARIES = 8;
+    // How many versions back changesSince can answer with a delta instead of the full board.
+    private static final int CHANGE_LOG_CAPACITY = 4096;
 
     public ScoreBoard() {
-        this.matchesInProgress = new CopyOnWriteArrayList<>();
+        this(Clock.systemDefaultZone());
+    }
+
+    /**
+     * Creates a scoreboard that stamps match start times from the given clock.
+     * Summary ordering relies on start sequences rather than times, so a fixed
+     * clock (e.g. in tests) does not make ties between matches ambiguous.
+     *
+     * @param clock The clock used for {@link Match#getStartTime()}.
+     */
+    public ScoreBoard(Clock clock) {
+        this(clock, new ConcurrentMatchStore());
+    }
+
+    /**
+     * Creates a scoreboard on top of the given storage backend.
+     *
+     * @param clock The clock used for {@link Match#getStartTime()}.
+     * @param store An empty store that is used by this scoreboard only.
+     */
+    public ScoreBoard(Clock clock, MatchStore store) {
+        this(clock, store, null);
+    }
+
+    /**
+     * Creates a persistent scoreboard. The matches recovered by replaying the journal are
+     * put back into the store with their start times, start sequences and scores, and
+     * every later mutation is appended to the journal. A mutation whose record cannot be
+     * appended fails and leaves the board unchanged, so the board never holds a change a
+     * restart would lose.
+     *
+     * @param clock   The clock used for {@link Match#getStartTime()}.
+     * @param store   An empty store that is used by this scoreboard only.
+     * @param journal A freshly opened journal that is used by this scoreboard only, or {@code null}.
+     */
+    public ScoreBoard(Clock clock, MatchStore store, ScoreBoardJournal journal) {
+        this(clock, store, journal, null);
+    }
+
+    /**
+     * Creates a scoreboard that coalesces score updates. Within each window only the last
+     * {@link #updateScore(String, String, int, int)} of a match is written: the match is
+     * repositioned, journaled and versioned once per window however many updates it got,
+     * so summary and change-stream work scales with the number of distinct matches
+     * updated rather than with the number of updates.
+     * <p>
+     * {@code updateScore} still validates its arguments and the match immediately, but
+     * readers see the new score only once the window has passed, or after
+     * {@link #flushPendingUpdates()}. Goals, corrections, batches and finishing a match
+     * take effect immediately and keep their order with the match's pending update.
+     * A pending update that cannot be written when its window ends is dropped and
+     * reported by the next {@code updateScore} or {@code flushPendingUpdates()}.
+     * </p>
+     *
+     * @param clock            The clock used for {@link Match#getStartTime()}.
+     * @param store            An empty store that is used by this scoreboard only.
+     * @param journal          A freshly opened journal that is used by this scoreboard only, or {@code null}.
+     * @param coalescingWindow How long updates of a match are collected before the last one is
+     *                         written, or {@code null} (or zero) to write every update immediately.
+     * @throws IllegalArgumentException if the window is negative.
+     */
+    public ScoreBoard(Clock clock, MatchStore store, ScoreBoardJournal journal, Duration coalescingWindow) {
+        this(clock, store, journal, coalescingWindow, OperationLatencies.ENABLED_BY_DEFAULT);
+    }
+
+    /**
+     * Creates a scoreboard like {@link #ScoreBoard(Clock, MatchStore, ScoreBoardJournal, Duration)},
+     * choosing for this board alone whether it records latency histograms, see
+     * {@link #getLatencies()}. The other constructors record them only if the JVM runs with
+     * {@code -Dcom.sportradar.latencyHistograms=true}.
+     *
+     * @param clock            The clock used for {@link Match#getStartTime()}.
+     * @param store            An empty store that is used by this scoreboard only.
+     * @param journal          A freshly opened journal that is used by this scoreboard only, or {@code null}.
+     * @param coalescingWindow How long updates of a match are collected before the last one is
+     *                         written, or {@code null} (or zero) to write every update immediately.
+     * @param recordLatencies  Whether this board times its operations.
+     * @throws IllegalArgumentException if the window is negative.
+     */
+    public ScoreBoard(Clock clock, MatchStore store, ScoreBoardJournal journal, Duration coalescingWindow,
+                      boolean recordLatencies) {
+        if (coalescingWindow != null && coalescingWindow.isNegative()) {
+            throw new IllegalArgumentException("Coalescing window cannot be negative.");
+        }
+        this.matches = store;
+        this.startSequence = new AtomicLong();
+        this.clock = clock;
+        this.journal = journal;
+        this.latencies = recordLatencies ? new OperationLatencies() : null;
+        this.coalescer = coalescingWindow == null || coalescingWindow.isZero()
+                ? null : new UpdateCoalescer(coalescingWindow.toNanos());
+        if (journal != null) {
+            for (Match match : journal.takeRecoveredMatches()) {
+                matches.add(match);
+                mutated(match, false);
+            }
+            startSequence.set(journal.lastStartSequence());
+        }
     }
 
     /**
@@ -91,15 +238,37 @@ public class ScoreBoard {
      * @param homeTeam The name of the home team.
      * @param awayTeam The name of the away team.
      * @return The newly started Match object.
-     * @throws IllegalArgumentException if team names are invalid or if a match with the same teams is already in progress.
+     * @throws IllegalArgumentException if team names are invalid.
+     * @throws MatchInProgressException if a match with the same teams is already in progress.
      */
     public Match startMatch(String homeTeam, String awayTeam) {
-        Match newMatch = new Match(homeTeam, awayTeam);
-        // Check if a match with these teams is already in progress
-        if (matchesInProgress.stream().anyMatch(m -> m.equals(newMatch))) {
-            throw new IllegalArgumentException("A match between " + homeTeam + " and " + awayTeam + " is already in progress.");
+        long started = latencies != null ? System.nanoTime() : 0;
+        Match newMatch = new Match(homeTeam, awayTeam, LocalDateTime.now(clock), startSequence.incrementAndGet());
+        // Holding the new match's monitor keeps its updates and finish from being journaled before its start
+        synchronized (newMatch) {
+            try {
+                if (!matches.add(newMatch)) {
+                    throw new MatchInProgressException(homeTeam, awayTeam);
+                }
+                if (journal != null) {
+                    try {
+                        journal.recordStart(newMatch);
+                    } catch (RuntimeException e) {
+                        matches.remove(newMatch);
+                        throw e;
+                    }
+                }
+            } catch (RuntimeException e) {
+                // A match that never made it onto the board gives its teams back
+                newMatch.releaseTeams();
+                throw e;
+            }
+        }
+        mutated(newMatch, false);
+        ScoreBoardEvents.matchStarted(newMatch);
+        if (latencies != null) {
+            latencies.startMatch.record(System.nanoTime() - started);
         }
-        matchesInProgress.add(newMatch);
         return newMatch;
     }
 
@@ -110,21 +279,117 @@ public class ScoreBoard {
      * @param awayTeam The away team of the match to update.
      * @param homeScore   The new score for the home team.
      * @param awayScore   The new score for the away team.
-     * @throws IllegalArgumentException if scores are negative or if the match is not found.
+     * @throws IllegalArgumentException if scores are negative or out of the store's range.
+     * @throws MatchNotFoundException if the match is not found.
+     * @throws IllegalStateException if this board coalesces updates and an earlier one could not be written.
      */
     public void updateScore(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        long started = latencies != null ? System.nanoTime() : 0;
         if (homeScore < 0 || awayScore < 0) {
             throw new IllegalArgumentException("Scores cannot be negative.");
         }
+        Match match = findMatch(homeTeam, awayTeam);
+        if (coalescer != null) {
+            // Reject what the store would reject now, on the caller's thread, not later in a flush
+            matches.checkScore(homeScore, awayScore);
+            coalescer.offer(this, match, homeScore, awayScore);
+        } else {
+            applyScore(match, homeScore, awayScore);
+        }
+        if (latencies != null) {
+            latencies.updateScore.record(System.nanoTime() - started);
+        }
+    }
 
-        Optional<Match> matchToUpdate = matchesInProgress.stream()
-                .filter(m -> m.getHomeTeam().equalsIgnoreCase(homeTeam) && m.getAwayTeam().equalsIgnoreCase(awayTeam))
-                .findFirst();
+    /**
+     * Adds one goal to the home team of an ongoing match. The increment is an atomic
+     * compare-and-set on the match's score, so concurrent goals are never lost and the
+     * caller needs no read-modify-write of its own.
+     *
+     * @param homeTeam The home team of the match.
+     * @param awayTeam The away team of the match.
+     * @return The score after the goal.
+     * @throws MatchNotFoundException if the match is not found.
+     */
+    public Match.Score homeGoal(String homeTeam, String awayTeam) {
+        return adjustScore(homeTeam, awayTeam, 1, 0);
+    }
+
+    /**
+     * Adds one goal to the away team of an ongoing match, like {@link #homeGoal(String, String)}.
+     *
+     * @param homeTeam The home team of the match.
+     * @param awayTeam The away team of the match.
+     * @return The score after the goal.
+     * @throws MatchNotFoundException if the match is not found.
+     */
+    public Match.Score awayGoal(String homeTeam, String awayTeam) {
+        return adjustScore(homeTeam, awayTeam, 0, 1);
+    }
+
+    /**
+     * Atomically corrects the score of an ongoing match by the given deltas, e.g.
+     * {@code adjustScore("Mexico", "Canada", -1, 0)} when a home goal is disallowed.
+     * <p>
+     * Without a journal this takes no lock besides the store's brief repositioning of the
+     * match. With a journal, adjustments of one match are serialized on the match so the
+     * journaled scores stay in order. With update coalescing, a pending update of the
+     * match is written first, so the correction applies to the latest score.
+     * </p>
+     *
+     * @param homeTeam  The home team of the match.
+     * @param awayTeam  The away team of the match.
+     * @param homeDelta The change of the home score.
+     * @param awayDelta The change of the away score.
+     * @return The score after the correction.
+     * @throws IllegalArgumentException if a score would become negative.
+     * @throws MatchNotFoundException if the match is not found.
+     */
+    public Match.Score adjustScore(String homeTeam, String awayTeam, int homeDelta, int awayDelta) {
+        Match match = findMatch(homeTeam, awayTeam);
+        Match.Score score;
+        if (journal == null && coalescer == null) {
+            score = match.adjustScore(homeDelta, awayDelta);
+            if (!reposition(match, homeDelta, awayDelta)) {
+                throw new MatchNotFoundException(homeTeam, awayTeam);
+            }
+            ScoreBoardEvents.scoreUpdated(match, score.home(), score.away());
+        } else {
+            synchronized (match) {
+                if (coalescer != null) {
+                    coalescer.writePending(this, match);
+                }
+                if (matches.get(match.getKey()) != match) {
+                    throw new MatchNotFoundException(homeTeam, awayTeam);
+                }
+                score = match.adjustScore(homeDelta, awayDelta);
+                reposition(match, homeDelta, awayDelta);
+                if (journal != null) {
+                    try {
+                        journal.recordScore(match.getStartSequence(), score.home(), score.away());
+                    } catch (RuntimeException e) {
+                        match.adjustScore(-homeDelta, -awayDelta);
+                        matches.reposition(match);
+                        throw e;
+                    }
+                }
+                ScoreBoardEvents.scoreUpdated(match, score.home(), score.away());
+            }
+        }
+        mutated(match, false);
+        return score;
+    }
 
-        matchToUpdate.ifPresentOrElse(
-                match -> match.updateScore(homeScore, awayScore),
-                () -> { throw new IllegalArgumentException("Match " + homeTeam + " vs " + awayTeam + " not found."); }
-        );
+    // Files an adjusted match under its new score, taking the adjustment back if the store rejects that score
+    private boolean reposition(Match match, int homeDelta, int awayDelta) {
+        try {
+            return matches.reposition(match);
+        } catch (RuntimeException e) {
+            match.adjustScore(-homeDelta, -awayDelta);
+            // Another adjustment may have been filed meanwhile with ours included
+            matches.reposition(match);
+            throw e;
+        }
     }
 
     /**
@@ -132,13 +397,70 @@ public class ScoreBoard {
      *
      * @param homeTeam The home team of the match to finish.
      * @param awayTeam The away team of the match to finish.
-     * @throws IllegalArgumentException if the match is not found.
+     * @throws MatchNotFoundException if the match is not found.
      */
     public void finishMatch(String homeTeam, String awayTeam) {
-        boolean removed = matchesInProgress.removeIf(m -> m.getHomeTeam().equalsIgnoreCase(homeTeam) && m.getAwayTeam().equalsIgnoreCase(awayTeam));
-        if (!removed) {
-            throw new IllegalArgumentException("Match " + homeTeam + " vs " + awayTeam + " not found.");
+        long started = latencies != null ? System.nanoTime() : 0;
+        finish(findMatch(homeTeam, awayTeam));
+        if (latencies != null) {
+            latencies.finishMatch.record(System.nanoTime() - started);
+        }
+    }
+
+    /**
+     * Applies many start, update and finish commands in one pass. Commands are applied in
+     * order and validated exactly like the single-command methods, but a rejected command
+     * does not stop the batch: it is reported in the result and the rest are still applied.
+     * Only the last score of each match within the batch is written to the store, so a match
+     * that scores several times in one batch is repositioned in the summary once.
+     *
+     * @param commands The commands to apply.
+     * @return How many commands were applied and which ones were rejected, and why.
+     */
+    public BatchResult applyBatch(List<ScoreCommand> commands) {
+        List<BatchResult.Failure> failures = new ArrayList<>();
+        // Latest score per match and the index of the command that set it; identity because a
+        // finished match and its restart within the same batch are different entries
+        Map<Match, PendingScore> pendingScores = new IdentityHashMap<>();
+        int applied = 0;
+        for (int i = 0; i < commands.size(); i++) {
+            ScoreCommand command = commands.get(i);
+            try {
+                switch (command) {
+                    case ScoreCommand.Start start -> startMatch(start.homeTeam(), start.awayTeam());
+                    case ScoreCommand.Update update -> {
+                        if (update.homeScore() < 0 || update.awayScore() < 0) {
+                            throw new IllegalArgumentException("Scores cannot be negative.");
+                        }
+                        Match match = findMatch(update.homeTeam(), update.awayTeam());
+                        pendingScores.put(match, new PendingScore(i, update.homeScore(), update.awayScore()));
+                    }
+                    case ScoreCommand.Finish finish -> {
+                        Match match = findMatch(finish.homeTeam(), finish.awayTeam());
+                        finish(match);
+                        // Updates of a finished match are applied, there is just nothing left to write
+                        pendingScores.remove(match);
+                    }
+                    case null -> throw new IllegalArgumentException("Command cannot be null.");
+                }
+                applied++;
+            } catch (IllegalArgumentException e) {
+                failures.add(new BatchResult.Failure(i, command, e.getMessage()));
+            }
+        }
+        for (Map.Entry<Match, PendingScore> pending : pendingScores.entrySet()) {
+            Match match = pending.getKey();
+            PendingScore score = pending.getValue();
+            try {
+                applyScore(match, score.homeScore(), score.awayScore());
+            } catch (IllegalArgumentException e) {
+                // Finished by another thread while the batch was running
+                failures.add(new BatchResult.Failure(score.index(), commands.get(score.index()), e.getMessage()));
+                applied--;
+            }
         }
+        failures.sort(Comparator.comparingInt(BatchResult.Failure::index));
+        return new BatchResult(applied, List.copyOf(failures));
     }
 
     /**
@@ -148,9 +470,260 @@ public class ScoreBoard {
      * @return An unmodifiable list of matches in the specified order.
      */
     public List<Match> getSummary() {
-        List<Match> sortedMatches = new ArrayList<>(matchesInProgress);
-        List<Match> primarySort = sortedMatches.stream().sorted(Comparator.comparing(Match::getStartTime).reversed()).toList();
-        return primarySort.stream().sorted(Comparator.comparing(Match::getTotalScore).reversed()).collect(Collectors.toList());
+        if (latencies == null) {
+            return getSummarySnapshot().matches();
+        }
+        long started = System.nanoTime();
+        List<Match> summary = getSummarySnapshot().matches();
+        latencies.getSummary.record(System.nanoTime() - started);
+        return summary;
+    }
+
+    /**
+     * Gets the current summary together with the board version it was built at.
+     * Repeated calls without an intervening mutation return the same instance.
+     *
+     * @return The published summary snapshot.
+     */
+    public SummarySnapshot getSummarySnapshot() {
+        SummarySnapshot published = summary;
+        if (published.version() == version.get()) {
+            return published;
+        }
+        synchronized (summaryLock) {
+            published = summary;
+            // Read the version before walking the store: the walk sees at least every mutation up to it
+            long current = version.get();
+            if (published.version() >= current) {
+                return published;
+            }
+            ScoreBoardEvents.SummaryBuilt event = ScoreBoardEvents.summaryBuildStarted();
+            published = new SummarySnapshot(current, matches.inSummaryOrder());
+            recentSummaries.set((int) (current % RETAINED_SUMMARIES), published);
+            summary = published;
+            ScoreBoardEvents.summaryBuilt(event, current, published.matches().size());
+            return published;
+        }
+    }
+
+    /**
+     * Gets the first {@code k} matches of the summary, in summary order.
+     * When the published summary is current this is a view of it; otherwise only
+     * the leading {@code k} matches are read from the store, without building
+     * (or publishing) the full summary.
+     *
+     * @param k The maximum number of matches to return.
+     * @return An unmodifiable list of at most {@code k} matches.
+     * @throws IllegalArgumentException if {@code k} is negative.
+     */
+    public List<Match> getTopMatches(int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("Number of matches cannot be negative.");
+        }
+        if (latencies == null) {
+            return topMatches(k);
+        }
+        long started = System.nanoTime();
+        List<Match> top = topMatches(k);
+        latencies.getTopMatches.record(System.nanoTime() - started);
+        return top;
+    }
+
+    private List<Match> topMatches(int k) {
+        SummarySnapshot published = summary;
+        if (published.version() == version.get()) {
+            List<Match> all = published.matches();
+            return all.subList(0, Math.min(k, all.size()));
+        }
+        return matches.inSummaryOrder(k);
+    }
+
+    /**
+     * Gets one page of the current summary.
+     *
+     * @param offset The summary position of the first match to return.
+     * @param limit  The maximum number of matches on the page.
+     * @return A page cut from the current summary snapshot.
+     * @throws IllegalArgumentException if {@code offset} or {@code limit} is negative.
+     */
+    public SummaryPage getSummaryPage(int offset, int limit) {
+        return page(getSummarySnapshot(), offset, limit);
+    }
+
+    /**
+     * Gets one page of the summary as it was at the given version, typically the
+     * {@link SummaryPage#version()} of a previous page. Pages of the same version never
+     * overlap or skip matches, however the board changes in between. Only the last few
+     * published versions are retained; if the requested one is gone the page is cut from
+     * the current summary instead, which callers detect by its different version.
+     *
+     * @param version The summary version to page through.
+     * @param offset  The summary position of the first match to return.
+     * @param limit   The maximum number of matches on the page.
+     * @return A page of the requested version if still retained, otherwise of the current one.
+     * @throws IllegalArgumentException if {@code offset} or {@code limit} is negative.
+     */
+    public SummaryPage getSummaryPage(long version, int offset, int limit) {
+        SummarySnapshot retained = version < 0 ? null : recentSummaries.get((int) (version % RETAINED_SUMMARIES));
+        if (retained == null || retained.version() != version) {
+            retained = getSummarySnapshot();
+        }
+        return page(retained, offset, limit);
+    }
+
+    private static SummaryPage page(SummarySnapshot snapshot, int offset, int limit) {
+        if (offset < 0 || limit < 0) {
+            throw new IllegalArgumentException("Page offset and limit cannot be negative.");
+        }
+        List<Match> all = snapshot.matches();
+        int from = Math.min(offset, all.size());
+        int to = (int) Math.min((long) from + limit, all.size());
+        return new SummaryPage(snapshot.version(), from, all.size(), all.subList(from, to));
+    }
+
+    /**
+     * Writes all matches in progress, with their scores, start times and start sequences,
+     * to a compact binary snapshot file. The file is written next to the target and moved
+     * into place, so an existing snapshot is only ever replaced by a complete one.
+     *
+     * @param file The snapshot file to create or replace.
+     * @throws IOException if the snapshot cannot be written.
+     */
+    public void exportSnapshot(Path file) throws IOException {
+        flushPendingUpdates();
+        // Read the sequence first: every match in the summary below was started at or before it
+        long lastStartSequence = startSequence.get();
+        ScoreBoardSnapshots.write(file, lastStartSequence, getSummarySnapshot().matches());
+    }
+
+    /**
+     * Loads the matches of a snapshot written by {@link #exportSnapshot(Path)} into this
+     * scoreboard, keeping their scores, start times and start order. The file is read with a
+     * single sequential read. If a journal is attached, the restored matches are journaled too.
+     *
+     * @param file The snapshot file.
+     * @throws IOException if the file cannot be read, is not a snapshot or is corrupt.
+     * @throws IllegalStateException if this scoreboard already has matches in progress.
+     */
+    public void importSnapshot(Path file) throws IOException {
+        if (matches.size() != 0) {
+            throw new IllegalStateException("A snapshot can only be imported into an empty scoreboard.");
+        }
+        ScoreBoardSnapshots.Contents contents = ScoreBoardSnapshots.read(file);
+        List<Match> restored = contents.matches();
+        for (int i = 0; i < restored.size(); i++) {
+            Match match = restored.get(i);
+            try {
+                synchronized (match) {
+                    if (!matches.add(match)) {
+                        throw new IllegalStateException("A match between " + match.getHomeTeam() + " and "
+                                + match.getAwayTeam() + " is already in progress.");
+                    }
+                    if (journal != null) {
+                        Match.Score score = match.getScore();
+                        try {
+                            journal.recordStart(match);
+                            journal.recordScore(match.getStartSequence(), score.home(), score.away());
+                        } catch (RuntimeException e) {
+                            matches.remove(match);
+                            throw e;
+                        }
+                    }
+                }
+            } catch (RuntimeException e) {
+                // The matches that did not make it onto the board give their teams back
+                restored.subList(i, restored.size()).forEach(Match::releaseTeams);
+                throw e;
+            }
+            mutated(match, false);
+        }
+        startSequence.accumulateAndGet(contents.lastStartSequence(), Math::max);
+    }
+
+    /**
+     * Gets what changed since the given version, so a client that reconnects after a blip
+     * can catch up without downloading the whole board. The board keeps a bounded log of
+     * the last {@value #CHANGE_LOG_CAPACITY} versions; if {@code version} is older than
+     * that (or not a version this board has reached), the full board is returned instead.
+     *
+     * @param version The version the client last saw, e.g. {@link SummarySnapshot#version()}
+     *                or the {@link ChangeSet#toVersion()} of a previous call.
+     * @return The matches touched since {@code version}, or the full board.
+     */
+    public ChangeSet changesSince(long version) {
+        long current = this.version.get();
+        if (version >= 0 && version <= current) {
+            ChangeSet delta = changeLog.collect(version, current);
+            if (delta != null) {
+                return delta;
+            }
+        }
+        SummarySnapshot snapshot = getSummarySnapshot();
+        return new ChangeSet(version, snapshot.version(), true, snapshot.matches(), List.of());
+    }
+
+    /**
+     * Gets the publisher of summary diffs of this scoreboard, creating it on the first call.
+     * Diffs are computed and delivered on the common fork-join pool.
+     *
+     * @return The change stream of this scoreboard.
+     * @see SummaryChanges
+     */
+    public SummaryChanges changes() {
+        SummaryChanges current = changes;
+        if (current == null) {
+            synchronized (summaryLock) {
+                current = changes;
+                if (current == null) {
+                    current = new SummaryChanges(this, ForkJoinPool.commonPool(), Flow.defaultBufferSize());
+                    changes = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Writes every score update still pending because of update coalescing, so the
+     * following reads see them. Does nothing if this board does not coalesce updates.
+     *
+     * @throws IllegalStateException if a pending update, of this or an earlier flush, could not be written.
+     */
+    public void flushPendingUpdates() {
+        if (coalescer != null) {
+            coalescer.flush(this);
+            coalescer.reportFailure();
+        }
+    }
+
+    /**
+     * Gets the latencies of this board's operations so far, keyed by {@code "startMatch"},
+     * {@code "updateScore"}, {@code "finishMatch"}, {@code "getSummary"} and
+     * {@code "getTopMatches"}. Only calls that succeed are recorded, and only the public
+     * summary reads are timed: {@link #getSummarySnapshot()}, the summary pages and the
+     * board's own consumers such as {@link IngestionPipeline} and {@link SummaryChanges}
+     * are not. With update coalescing, {@code updateScore} covers accepting the update,
+     * not writing it.
+     * <p>
+     * Recording is off by default. It is chosen per board with
+     * {@link #ScoreBoard(Clock, MatchStore, ScoreBoardJournal, Duration, boolean)}, or switched
+     * on for boards built with the other constructors by
+     * {@code -Dcom.sportradar.latencyHistograms=true}. A board that does not record reads no
+     * clock. The histograms are lock-free and of fixed size, see {@link LatencyHistogram}.
+     * </p>
+     *
+     * @return An unmodifiable snapshot per operation, or an empty map if recording is switched off.
+     */
+    public Map<String, LatencyHistogram.Snapshot> getLatencies() {
+        return latencies != null ? latencies.snapshot() : Map.of();
+    }
+
+    /**
+     * Returns the number of successful mutations applied to this scoreboard so far.
+     * @return The current board version.
+     */
+    public long getVersion() {
+        return version.get();
     }
 
     /**
@@ -158,6 +731,107 @@ public class ScoreBoard {
      * @return The count of ongoing matches.
      */
     public int getMatchesCount() {
-        return matchesInProgress.size();
+        return matches.size();
+    }
+
+    private void mutated(Match match, boolean finished) {
+        changeLog.record(version.incrementAndGet(), match, finished);
+        SummaryChanges current = changes;
+        if (current != null) {
+            current.signal();
+        }
+    }
+
+    /**
+     * Sets the score of a match this board handed out, without looking it up by name.
+     * Used by {@link FeedDecoder}, which keeps the matches it started as handles.
+     *
+     * @throws MatchNotFoundException if the match is no longer in progress on this board.
+     */
+    void applyScore(Match match, int homeScore, int awayScore) {
+        synchronized (match) {
+            // A direct write supersedes an earlier coalesced update
+            if (coalescer != null) {
+                coalescer.discard(match);
+            }
+            if (!writeScore(match, homeScore, awayScore)) {
+                throw new MatchNotFoundException(match.getHomeTeam(), match.getAwayTeam());
+            }
+        }
+        mutated(match, false);
+    }
+
+    /**
+     * Writes the last coalesced score of a match. The caller holds the match's monitor.
+     * A match finished in the meantime has nothing left to write.
+     */
+    void writeCoalesced(Match match, int homeScore, int awayScore) {
+        if (writeScore(match, homeScore, awayScore)) {
+            mutated(match, false);
+        }
+    }
+
+    // Caller holds the match's monitor, so with a journal no other write can change the score in between
+    private boolean writeScore(Match match, int homeScore, int awayScore) {
+        long previous = match.packedScore();
+        if (!matches.updateScore(match, homeScore, awayScore)) {
+            return false;
+        }
+        if (journal != null) {
+            try {
+                journal.recordScore(match.getStartSequence(), homeScore, awayScore);
+            } catch (RuntimeException e) {
+                // Undo, so the board holds nothing a replay of the journal would not restore
+                matches.updateScore(match, Match.homeOf(previous), Match.awayOf(previous));
+                throw e;
+            }
+        }
+        ScoreBoardEvents.scoreUpdated(match, homeScore, awayScore);
+        return true;
+    }
+
+    /**
+     * Finishes a match this board handed out, like {@link #applyScore(Match, int, int)}.
+     *
+     * @throws MatchNotFoundException if the match is no longer in progress on this board.
+     */
+    void finish(Match match) {
+        synchronized (match) {
+            if (coalescer != null) {
+                coalescer.discard(match);
+            }
+            if (journal == null) {
+                if (!matches.remove(match)) {
+                    throw new MatchNotFoundException(match.getHomeTeam(), match.getAwayTeam());
+                }
+            } else {
+                if (matches.get(match.getKey()) != match) {
+                    throw new MatchNotFoundException(match.getHomeTeam(), match.getAwayTeam());
+                }
+                // Journal first: a removed match could not be put back if another start took its key meanwhile.
+                // Every removal of a stored match holds its monitor, so the removal cannot fail after this.
+                journal.recordFinish(match.getStartSequence());
+                matches.remove(match);
+            }
+        }
+        match.releaseTeams();
+        mutated(match, true);
+        ScoreBoardEvents.matchFinished(match);
+    }
+
+    private record PendingScore(int index, int homeScore, int awayScore) {
+    }
+
+    private Match findMatch(String homeTeam, String awayTeam) {
+        if (homeTeam == null || awayTeam == null) {
+            throw new IllegalArgumentException("Team names cannot be null or empty.");
+        }
+        // Unknown names are not registered, so lookups of matches that never existed leave no trace
+        long key = Match.key(homeTeam, awayTeam);
+        Match match = key == Match.NO_KEY ? null : matches.get(key);
+        if (match == null) {
+            throw new MatchNotFoundException(homeTeam, awayTeam);
+        }
+        return match;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,150 @@
+package com.sportradar;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * <p>
+ * JDK Flight Recorder events emitted by {@link ScoreBoard}, so scoreboard activity can
+ * be lined up with GC pauses, safepoints and lock contention in the same recording.
+ * They appear under <i>Sportradar / ScoreBoard</i> and are enabled like any other
+ * event, e.g. in a {@code .jfc} settings file or with
+ * {@code -XX:StartFlightRecording:settings=profile}.
+ * </p>
+ *
+ * <p>
+ * Each helper checks {@link Event#isEnabled()} before filling in an event. While no
+ * recording has the event enabled that check is a constant {@code false} to the JIT,
+ * and the unused event object never leaves the helper, so escape analysis removes its
+ * allocation and an idle board pays nothing. {@link #summaryBuildStarted()} hands out
+ * its event only when enabled, for the same reason.
+ * </p>
+ */
+final class ScoreBoardEvents {
+    private ScoreBoardEvents() {
+    }
+
+    static void matchStarted(Match match) {
+        MatchStarted event = new MatchStarted();
+        if (event.isEnabled()) {
+            event.homeTeam = match.getHomeTeam();
+            event.awayTeam = match.getAwayTeam();
+            event.startSequence = match.getStartSequence();
+            event.commit();
+        }
+    }
+
+    static void matchFinished(Match match) {
+        MatchFinished event = new MatchFinished();
+        if (event.isEnabled()) {
+            Match.Score score = match.getScore();
+            event.homeTeam = match.getHomeTeam();
+            event.awayTeam = match.getAwayTeam();
+            event.startSequence = match.getStartSequence();
+            event.homeScore = score.home();
+            event.awayScore = score.away();
+            event.commit();
+        }
+    }
+
+    static void scoreUpdated(Match match, int homeScore, int awayScore) {
+        ScoreUpdated event = new ScoreUpdated();
+        if (event.isEnabled()) {
+            event.homeTeam = match.getHomeTeam();
+            event.awayTeam = match.getAwayTeam();
+            event.startSequence = match.getStartSequence();
+            event.homeScore = homeScore;
+            event.awayScore = awayScore;
+            event.commit();
+        }
+    }
+
+    /**
+     * @return A started {@link SummaryBuilt} event to pass to {@link #summaryBuilt}, or
+     *         {@code null} if no recording enables it.
+     */
+    static SummaryBuilt summaryBuildStarted() {
+        SummaryBuilt event = new SummaryBuilt();
+        if (!event.isEnabled()) {
+            return null;
+        }
+        event.begin();
+        return event;
+    }
+
+    static void summaryBuilt(SummaryBuilt event, long version, int size) {
+        if (event != null && event.shouldCommit()) {
+            event.version = version;
+            event.size = size;
+            event.commit();
+        }
+    }
+
+    @Name("com.sportradar.MatchStarted")
+    @Label("Match Started")
+    @Category({"Sportradar", "ScoreBoard"})
+    @Description("A match was added to a scoreboard.")
+    @StackTrace(false)
+    static final class MatchStarted extends Event {
+        @Label("Home Team")
+        String homeTeam;
+        @Label("Away Team")
+        String awayTeam;
+        @Label("Start Sequence")
+        long startSequence;
+    }
+
+    @Name("com.sportradar.MatchFinished")
+    @Label("Match Finished")
+    @Category({"Sportradar", "ScoreBoard"})
+    @Description("A match was removed from a scoreboard, with its final score.")
+    @StackTrace(false)
+    static final class MatchFinished extends Event {
+        @Label("Home Team")
+        String homeTeam;
+        @Label("Away Team")
+        String awayTeam;
+        @Label("Start Sequence")
+        long startSequence;
+        @Label("Home Score")
+        int homeScore;
+        @Label("Away Score")
+        int awayScore;
+    }
+
+    @Name("com.sportradar.ScoreUpdated")
+    @Label("Score Updated")
+    @Category({"Sportradar", "ScoreBoard"})
+    @Description("A new score of a match was written to a scoreboard.")
+    @StackTrace(false)
+    static final class ScoreUpdated extends Event {
+        @Label("Home Team")
+        String homeTeam;
+        @Label("Away Team")
+        String awayTeam;
+        @Label("Start Sequence")
+        long startSequence;
+        @Label("Home Score")
+        int homeScore;
+        @Label("Away Score")
+        int awayScore;
+    }
+
+    /**
+     * Spans the rebuild of a published summary, so its duration is the event's own.
+     */
+    @Name("com.sportradar.SummaryBuilt")
+    @Label("Summary Built")
+    @Category({"Sportradar", "ScoreBoard"})
+    @Description("A scoreboard rebuilt its published summary after a change.")
+    static final class SummaryBuilt extends Event {
+        @Label("Version")
+        long version;
+        @Label("Matches")
+        int size;
+    }
+}
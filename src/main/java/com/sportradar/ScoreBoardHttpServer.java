@@ -0,0 +1,331 @@
+package com.sportradar;
+
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * <p>
+ * A lightweight HTTP front end for a {@link ScoreBoard}, built on the JDK's
+ * {@code com.sun.net.httpserver} and serving every request on its own virtual thread.
+ * All parameters are passed in the query string; responses are JSON.
+ * </p>
+ *
+ * <table>
+ * <caption>Endpoints</caption>
+ * <tr><td>{@code POST /matches?home=&away=}</td><td>start a match: 201 and the match</td></tr>
+ * <tr><td>{@code PUT /matches/score?home=&away=&homeScore=&awayScore=}</td><td>update a score: 200 and the match</td></tr>
+ * <tr><td>{@code DELETE /matches?home=&away=}</td><td>finish a match: 204</td></tr>
+ * <tr><td>{@code GET /summary[?limit=]}</td><td>the summary, or its first {@code limit} matches: 200, or 304</td></tr>
+ * </table>
+ * <p>
+ * Errors are answered with an {@code {"error": ...}} body: 404 with the board's message
+ * for an unknown match, 409 for the start of a match already in progress, 400 for other
+ * invalid requests, and 500 for any other failure of the board, for example a closed
+ * store or journal. The message of an unexpected failure is not sent to the client.
+ * </p>
+ *
+ * <h3>Serving many polling clients:</h3>
+ * <p>
+ * The summary is serialized once per board version and the same bytes are sent to
+ * every client polling that version. Each summary response carries the board version as
+ * its {@code ETag}; a client that sends it back in {@code If-None-Match} gets an empty
+ * 304 until something changes, so an idle board costs one header comparison per poll.
+ * Handlers never block on each other, and the accept backlog is configurable for bursts
+ * of new connections. For tens of thousands of keep-alive clients also raise the JDK
+ * server's {@code sun.net.httpserver.maxIdleConnections} system property and the
+ * process's file descriptor limit.
+ * </p>
+ *
+ * <h3>Usage:</h3>
+ * <pre>{@code
+ * try (ScoreBoardHttpServer server = ScoreBoardHttpServer.start(scoreboard, new InetSocketAddress(8080))) {
+ *     ...
+ * }
+ * }</pre>
+ *
+ * @see ScoreBoard
+ * @since 1.0
+ */
+public class ScoreBoardHttpServer implements AutoCloseable {
+    /**
+     * Accept backlog used by {@link #start(ScoreBoard, InetSocketAddress)}.
+     */
+    public static final int DEFAULT_BACKLOG = 4096;
+
+    private static final String JSON = "application/json";
+
+    private final ScoreBoard board;
+    private final HttpServer server;
+    private final ExecutorService executor;
+    // The full summary as last served, reused until the board version changes
+    private volatile SerializedSummary summary = new SerializedSummary(-1, new byte[0]);
+
+    private ScoreBoardHttpServer(ScoreBoard board, HttpServer server, ExecutorService executor) {
+        this.board = board;
+        this.server = server;
+        this.executor = executor;
+    }
+
+    /**
+     * Starts serving the board with the {@link #DEFAULT_BACKLOG}.
+     *
+     * @param board   The board to serve.
+     * @param address The address to listen on; port 0 picks a free port.
+     * @return The running server.
+     * @throws IOException if the address cannot be bound.
+     */
+    public static ScoreBoardHttpServer start(ScoreBoard board, InetSocketAddress address) throws IOException {
+        return start(board, address, DEFAULT_BACKLOG);
+    }
+
+    /**
+     * Starts serving the board.
+     *
+     * @param board   The board to serve.
+     * @param address The address to listen on; port 0 picks a free port.
+     * @param backlog The maximum number of connections waiting to be accepted.
+     * @return The running server.
+     * @throws IOException if the address cannot be bound.
+     */
+    public static ScoreBoardHttpServer start(ScoreBoard board, InetSocketAddress address, int backlog) throws IOException {
+        if (board == null) {
+            throw new IllegalArgumentException("Board cannot be null.");
+        }
+        HttpServer server = HttpServer.create(address, backlog);
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        ScoreBoardHttpServer http = new ScoreBoardHttpServer(board, server, executor);
+        server.createContext("/matches", http::handleMatches);
+        server.createContext("/summary", http::handleSummary);
+        server.setExecutor(executor);
+        server.start();
+        return http;
+    }
+
+    /**
+     * @return The address the server listens on, with the actual port.
+     */
+    public InetSocketAddress address() {
+        return server.getAddress();
+    }
+
+    /**
+     * Stops accepting requests, lets the ones in progress finish for up to a second,
+     * and stops the server.
+     */
+    @Override
+    public void close() {
+        server.stop(1);
+        executor.close();
+    }
+
+    private void handleMatches(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String method = exchange.getRequestMethod();
+            String path = exchange.getRequestURI().getPath();
+            Map<String, String> query = query(exchange);
+            try {
+                switch (path) {
+                    case "/matches" -> {
+                        if (method.equals("POST")) {
+                            Match match = board.startMatch(query.get("home"), query.get("away"));
+                            send(exchange, 201, match(new StringBuilder(), match).toString());
+                        } else if (method.equals("DELETE")) {
+                            board.finishMatch(query.get("home"), query.get("away"));
+                            exchange.sendResponseHeaders(204, -1);
+                        } else {
+                            notAllowed(exchange, "POST, DELETE");
+                        }
+                    }
+                    case "/matches/score" -> {
+                        if (method.equals("PUT")) {
+                            String home = query.get("home");
+                            String away = query.get("away");
+                            int homeScore = number(query, "homeScore");
+                            int awayScore = number(query, "awayScore");
+                            board.updateScore(home, away, homeScore, awayScore);
+                            send(exchange, 200, match(new StringBuilder(), home, away, homeScore, awayScore).toString());
+                        } else {
+                            notAllowed(exchange, "PUT");
+                        }
+                    }
+                    default -> send(exchange, 404, error("No such resource."));
+                }
+            } catch (MatchNotFoundException e) {
+                send(exchange, 404, error(e.getMessage()));
+            } catch (MatchInProgressException e) {
+                send(exchange, 409, error(e.getMessage()));
+            } catch (IllegalArgumentException e) {
+                send(exchange, 400, error(e.getMessage()));
+            } catch (RuntimeException e) {
+                internalError(exchange);
+            }
+        }
+    }
+
+    private void handleSummary(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!exchange.getRequestMethod().equals("GET")) {
+                notAllowed(exchange, "GET");
+                return;
+            }
+            SummarySnapshot snapshot;
+            try {
+                snapshot = board.getSummarySnapshot();
+            } catch (RuntimeException e) {
+                internalError(exchange);
+                return;
+            }
+            String etag = "\"" + snapshot.version() + "\"";
+            Headers headers = exchange.getResponseHeaders();
+            headers.set("ETag", etag);
+            headers.set("Cache-Control", "no-cache");
+            if (etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                exchange.sendResponseHeaders(304, -1);
+                return;
+            }
+            String limit = query(exchange).get("limit");
+            byte[] body;
+            try {
+                body = limit == null ? fullSummary(snapshot) : summary(snapshot, Integer.parseInt(limit));
+            } catch (IllegalArgumentException e) {
+                send(exchange, 400, error("limit must be a non-negative number."));
+                return;
+            }
+            headers.set("Content-Type", JSON);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+
+    private byte[] fullSummary(SummarySnapshot snapshot) {
+        SerializedSummary cached = summary;
+        if (cached.version() != snapshot.version()) {
+            // Racing pollers may both serialize a new version; either result is correct
+            cached = new SerializedSummary(snapshot.version(), summary(snapshot, Integer.MAX_VALUE));
+            summary = cached;
+        }
+        return cached.json();
+    }
+
+    private static byte[] summary(SummarySnapshot snapshot, int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("limit must be non-negative.");
+        }
+        List<Match> matches = snapshot.matches();
+        int count = Math.min(limit, matches.size());
+        StringBuilder json = new StringBuilder(64 + count * 64);
+        json.append("{\"version\":").append(snapshot.version()).append(",\"matches\":[");
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            match(json, matches.get(i));
+        }
+        return json.append("]}").toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static StringBuilder match(StringBuilder json, Match match) {
+        Match.Score score = match.getScore();
+        return match(json, match.getHomeTeam(), match.getAwayTeam(), score.home(), score.away());
+    }
+
+    private static StringBuilder match(StringBuilder json, String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        json.append("{\"homeTeam\":");
+        string(json, homeTeam);
+        json.append(",\"awayTeam\":");
+        string(json, awayTeam);
+        return json.append(",\"homeScore\":").append(homeScore)
+                .append(",\"awayScore\":").append(awayScore).append('}');
+    }
+
+    private static String error(String message) {
+        StringBuilder json = new StringBuilder("{\"error\":");
+        string(json, message);
+        return json.append('}').toString();
+    }
+
+    private static void string(StringBuilder json, String value) {
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> json.append("\\\"");
+                case '\\' -> json.append("\\\\");
+                case '\n' -> json.append("\\n");
+                case '\r' -> json.append("\\r");
+                case '\t' -> json.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        json.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        json.append(c);
+                    }
+                }
+            }
+        }
+        json.append('"');
+    }
+
+    private static int number(Map<String, String> query, String name) {
+        String value = query.get(name);
+        if (value == null) {
+            throw new IllegalArgumentException(name + " is required.");
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(name + " must be a number.");
+        }
+    }
+
+    private static Map<String, String> query(HttpExchange exchange) {
+        String raw = exchange.getRequestURI().getRawQuery();
+        Map<String, String> parameters = new HashMap<>();
+        if (raw == null) {
+            return parameters;
+        }
+        for (String pair : raw.split("&")) {
+            int separator = pair.indexOf('=');
+            if (separator > 0) {
+                parameters.put(URLDecoder.decode(pair.substring(0, separator), StandardCharsets.UTF_8),
+                        URLDecoder.decode(pair.substring(separator + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return parameters;
+    }
+
+    private static void send(HttpExchange exchange, int status, String json) throws IOException {
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", JSON);
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static void internalError(HttpExchange exchange) throws IOException {
+        send(exchange, 500, error("The scoreboard could not handle the request."));
+    }
+
+    private static void notAllowed(HttpExchange exchange, String allowed) throws IOException {
+        exchange.getResponseHeaders().set("Allow", allowed);
+        send(exchange, 405, error("Method not allowed."));
+    }
+
+    private record SerializedSummary(long version, byte[] json) {
+    }
+}
@@ -0,0 +1,343 @@
+package com.sportradar;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32C;
+
+/**
+ * <p>
+ * The {@code ScoreBoardJournal} class is an append-only, memory-mapped binary
+ * log of the mutations applied to a {@link ScoreBoard}. A board created
+ * with {@link ScoreBoard#ScoreBoard(java.time.Clock, MatchStore, ScoreBoardJournal)}
+ * first replays the journal to restore the matches in progress (teams, start time,
+ * start sequence and score) and then appends every start, score update and finish.
+ * A finish is appended before the match is removed; a start or score is applied to
+ * the store first, so the store can reject it, and undone if its record cannot be
+ * appended. Either way the board only keeps changes that are in the journal.
+ * </p>
+ *
+ * <h3>Usage:</h3>
+ * <pre>{@code
+ * try (ScoreBoardJournal journal = ScoreBoardJournal.open(Path.of("scoreboard.journal"))) {
+ *     ScoreBoard scoreboard = new ScoreBoard(Clock.systemDefaultZone(), new ConcurrentMatchStore(), journal);
+ *     scoreboard.startMatch("Mexico", "Canada"); // survives a restart from here on
+ * }
+ * }</pre>
+ *
+ * <h3>Format:</h3>
+ * <p>
+ * An 8 byte file header (magic, format version) is followed by records of the form
+ * {@code [int payloadLength][int crc32c(payload)][payload]}. The payload starts with a
+ * record type. A match start carries the start sequence, start time and team names;
+ * updates and finishes refer to the match by start sequence only, so logging a goal
+ * writes 25 bytes and encodes no strings. The file is mapped in regions of
+ * {@value #DEFAULT_REGION_SIZE} bytes and grows a region at a time; the unused tail
+ * is zero-filled, and a zero length marks the end of the log.
+ * </p>
+ *
+ * <h3>Durability:</h3>
+ * <p>
+ * Appends are plain stores into the mapped region, made under a short lock, so they
+ * cost well under a microsecond. They survive a crash of the JVM as soon as they
+ * return; surviving an operating system crash requires {@link #sync()}. Replay stops at
+ * the first record with an invalid length or checksum, which is where a torn write
+ * from a crash would be, and the next append overwrites it.
+ * </p>
+ *
+ * @see ScoreBoard
+ * @since 1.0
+ */
+public class ScoreBoardJournal implements AutoCloseable {
+    static final int DEFAULT_REGION_SIZE = 64 * 1024 * 1024;
+    // Team names are capped so that any record fits the scratch buffer and one mapped region
+    static final int MAX_PAYLOAD = 64 * 1024;
+
+    private static final int MAGIC = 0x53424A31; // "SBJ1"
+    private static final int FORMAT_VERSION = 1;
+    private static final int FILE_HEADER_SIZE = 8;
+    private static final int RECORD_HEADER_SIZE = 8;
+
+    private static final byte START = 1;
+    private static final byte SCORE = 2;
+    private static final byte FINISH = 3;
+
+    private final FileChannel channel;
+    private final int regionSize;
+    private final CRC32C crc = new CRC32C();
+    // Payloads are encoded here first so the checksum is computed without touching the mapping twice
+    private final ByteBuffer scratch = ByteBuffer.allocate(MAX_PAYLOAD);
+    // The mapped window [regionStart, regionStart + region.capacity()) of the file
+    private MappedByteBuffer region;
+    private long regionStart;
+    // File position of the next record
+    private long position;
+    private boolean closed;
+
+    // Replay results, handed to the board once and then dropped
+    private List<Match> recoveredMatches;
+    private long lastStartSequence;
+
+    private ScoreBoardJournal(FileChannel channel, int regionSize) {
+        this.channel = channel;
+        this.regionSize = regionSize;
+    }
+
+    /**
+     * Opens (creating if needed) a journal file and replays it.
+     *
+     * @param file The journal file.
+     * @return The opened journal, positioned after the last valid record.
+     * @throws IOException if the file cannot be opened or is not a scoreboard journal.
+     */
+    public static ScoreBoardJournal open(Path file) throws IOException {
+        return open(file, DEFAULT_REGION_SIZE);
+    }
+
+    static ScoreBoardJournal open(Path file, int regionSize) throws IOException {
+        if (regionSize < FILE_HEADER_SIZE + RECORD_HEADER_SIZE + MAX_PAYLOAD) {
+            throw new IllegalArgumentException("Region size is too small to hold a record.");
+        }
+        FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        ScoreBoardJournal journal = new ScoreBoardJournal(channel, regionSize);
+        try {
+            journal.replay(channel.size() == 0);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+        return journal;
+    }
+
+    /**
+     * Records that a match was started.
+     *
+     * @throws IllegalArgumentException if the team names are too long to journal.
+     * @throws UncheckedIOException if the journal cannot grow.
+     */
+    synchronized void recordStart(Match match) {
+        byte[] home = match.getHomeTeam().getBytes(StandardCharsets.UTF_8);
+        byte[] away = match.getAwayTeam().getBytes(StandardCharsets.UTF_8);
+        if (1 + 8 + 8 + 4 + 4 + home.length + 4 + away.length > MAX_PAYLOAD) {
+            throw new IllegalArgumentException("Team names are too long to be journaled.");
+        }
+        LocalDateTime startTime = match.getStartTime();
+        scratch.clear();
+        scratch.put(START)
+                .putLong(match.getStartSequence())
+                .putLong(startTime.toEpochSecond(ZoneOffset.UTC))
+                .putInt(startTime.getNano())
+                .putInt(home.length).put(home)
+                .putInt(away.length).put(away);
+        append();
+    }
+
+    /**
+     * Records the absolute score of a match.
+     *
+     * @throws UncheckedIOException if the journal cannot grow.
+     */
+    synchronized void recordScore(long startSequence, int homeScore, int awayScore) {
+        scratch.clear();
+        scratch.put(SCORE).putLong(startSequence).putInt(homeScore).putInt(awayScore);
+        append();
+    }
+
+    /**
+     * Records that a match was finished.
+     *
+     * @throws UncheckedIOException if the journal cannot grow.
+     */
+    synchronized void recordFinish(long startSequence) {
+        scratch.clear();
+        scratch.put(FINISH).putLong(startSequence);
+        append();
+    }
+
+    /**
+     * Matches still in progress at the end of the replayed log, in start order.
+     * Returned once; the journal does not keep them afterwards.
+     */
+    synchronized List<Match> takeRecoveredMatches() {
+        List<Match> recovered = recoveredMatches;
+        recoveredMatches = List.of();
+        return recovered;
+    }
+
+    /**
+     * The highest start sequence found in the log, including finished matches, so a
+     * recovered board never hands out a sequence twice.
+     */
+    synchronized long lastStartSequence() {
+        return lastStartSequence;
+    }
+
+    /**
+     * Forces all appended records to the storage device.
+     *
+     * @throws UncheckedIOException if the journal has been closed.
+     */
+    public synchronized void sync() {
+        ensureOpen();
+        region.force();
+    }
+
+    /**
+     * Forces all appended records to the storage device and closes the file.
+     * Closing an already closed journal has no effect.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        region.force();
+        channel.close();
+    }
+
+    private void append() {
+        ensureOpen();
+        int length = scratch.position();
+        crc.reset();
+        crc.update(scratch.array(), 0, length);
+        if (position + RECORD_HEADER_SIZE + length > regionStart + region.capacity()) {
+            remap(position);
+        }
+        int offset = (int) (position - regionStart);
+        region.put(offset + RECORD_HEADER_SIZE, scratch.array(), 0, length);
+        region.putInt(offset + 4, (int) crc.getValue());
+        // The length goes last: until it is written the record reads as the end of the log
+        region.putInt(offset, length);
+        position += RECORD_HEADER_SIZE + length;
+    }
+
+    private void replay(boolean newFile) throws IOException {
+        remap(0);
+        if (newFile) {
+            region.putInt(0, MAGIC).putInt(4, FORMAT_VERSION);
+        } else if (region.getInt(0) != MAGIC || region.getInt(4) != FORMAT_VERSION) {
+            throw new IOException("Not a scoreboard journal.");
+        }
+
+        Map<Long, RecoveredMatch> live = new HashMap<>();
+        long pos = FILE_HEADER_SIZE;
+        while (true) {
+            if (pos + RECORD_HEADER_SIZE + MAX_PAYLOAD > regionStart + region.capacity()) {
+                remap(pos);
+            }
+            int offset = (int) (pos - regionStart);
+            int length = region.getInt(offset);
+            if (length <= 0 || length > MAX_PAYLOAD) {
+                break;
+            }
+            region.get(offset + RECORD_HEADER_SIZE, scratch.array(), 0, length);
+            crc.reset();
+            crc.update(scratch.array(), 0, length);
+            if ((int) crc.getValue() != region.getInt(offset + 4)) {
+                break;
+            }
+            scratch.clear().limit(length);
+            apply(scratch, live);
+            pos += RECORD_HEADER_SIZE + length;
+        }
+        position = pos;
+        // Wipe whatever a torn write left behind so it can never be mistaken for a record later
+        int tail = (int) (pos - regionStart);
+        for (int i = tail; i < tail + RECORD_HEADER_SIZE + MAX_PAYLOAD; i++) {
+            region.put(i, (byte) 0);
+        }
+
+        List<Match> recovered = new ArrayList<>(live.size());
+        for (RecoveredMatch state : live.values()) {
+            recovered.add(state.toMatch());
+        }
+        recovered.sort(Comparator.comparingLong(Match::getStartSequence));
+        recoveredMatches = recovered;
+    }
+
+    private void apply(ByteBuffer payload, Map<Long, RecoveredMatch> live) {
+        byte type = payload.get();
+        long startSequence = payload.getLong();
+        switch (type) {
+            case START -> {
+                LocalDateTime startTime = LocalDateTime.ofEpochSecond(payload.getLong(), payload.getInt(), ZoneOffset.UTC);
+                String home = readString(payload);
+                String away = readString(payload);
+                live.put(startSequence, new RecoveredMatch(home, away, startTime, startSequence));
+                lastStartSequence = Math.max(lastStartSequence, startSequence);
+            }
+            case SCORE -> {
+                RecoveredMatch state = live.get(startSequence);
+                if (state != null) {
+                    state.homeScore = payload.getInt();
+                    state.awayScore = payload.getInt();
+                }
+            }
+            case FINISH -> live.remove(startSequence);
+            default -> throw new IllegalStateException("Unknown journal record type " + type + ".");
+        }
+    }
+
+    private static String readString(ByteBuffer payload) {
+        int length = payload.getInt();
+        String value = new String(payload.array(), payload.position(), length, StandardCharsets.UTF_8);
+        payload.position(payload.position() + length);
+        return value;
+    }
+
+    private void remap(long from) {
+        if (region != null) {
+            // sync() only forces the current region, so earlier ones are flushed as they are left behind
+            region.force();
+        }
+        try {
+            // Mapping past the end of the file grows it; the new bytes read as zero
+            region = channel.map(FileChannel.MapMode.READ_WRITE, from, regionSize);
+            regionStart = from;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not map the scoreboard journal.", e);
+        }
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new UncheckedIOException(new IOException("The scoreboard journal is closed."));
+        }
+    }
+
+    private static final class RecoveredMatch {
+        private final String homeTeam;
+        private final String awayTeam;
+        private final LocalDateTime startTime;
+        private final long startSequence;
+        private int homeScore;
+        private int awayScore;
+
+        private RecoveredMatch(String homeTeam, String awayTeam, LocalDateTime startTime, long startSequence) {
+            this.homeTeam = homeTeam;
+            this.awayTeam = awayTeam;
+            this.startTime = startTime;
+            this.startSequence = startSequence;
+        }
+
+        private Match toMatch() {
+            Match match = new Match(homeTeam, awayTeam, startTime, startSequence);
+            match.updateScore(homeScore, awayScore);
+            return match;
+        }
+    }
+}
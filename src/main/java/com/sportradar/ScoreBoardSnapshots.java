@@ -0,0 +1,148 @@
+package com.sportradar;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32C;
+
+/**
+ * <p>
+ * Binary snapshot format used by {@link ScoreBoard#exportSnapshot(Path)} and
+ * {@link ScoreBoard#importSnapshot(Path)}. A snapshot is a single self-describing block:
+ * </p>
+ * <pre>
+ * int magic, int formatVersion, long lastStartSequence, int matchCount,
+ * matchCount * (long startSequence, long startEpochSecond, int startNano,
+ *               int homeScore, int awayScore,
+ *               int homeLength, byte[] home, int awayLength, byte[] away),
+ * int crc32c(everything above)
+ * </pre>
+ * <p>
+ * Team names are UTF-8 and times are UTC epoch seconds, matching {@link ScoreBoardJournal}.
+ * Matches are written in summary order. A snapshot is read with one sequential read of
+ * the whole file and decoded in place.
+ * </p>
+ */
+final class ScoreBoardSnapshots {
+    private static final int MAGIC = 0x53425331; // "SBS1"
+    private static final int FORMAT_VERSION = 1;
+    private static final int HEADER_SIZE = 4 + 4 + 8 + 4;
+    private static final int FIXED_MATCH_SIZE = 8 + 8 + 4 + 4 + 4 + 4 + 4;
+
+    private ScoreBoardSnapshots() {
+    }
+
+    /**
+     * Decoded snapshot contents.
+     *
+     * @param lastStartSequence The highest start sequence the exporting board had handed out.
+     * @param matches           The matches in progress, with start data and scores restored.
+     */
+    record Contents(long lastStartSequence, List<Match> matches) {
+    }
+
+    static void write(Path file, long lastStartSequence, List<Match> matches) throws IOException {
+        List<byte[]> names = new ArrayList<>(matches.size() * 2);
+        long size = HEADER_SIZE + 4L;
+        for (Match match : matches) {
+            byte[] home = match.getHomeTeam().getBytes(StandardCharsets.UTF_8);
+            byte[] away = match.getAwayTeam().getBytes(StandardCharsets.UTF_8);
+            names.add(home);
+            names.add(away);
+            size += FIXED_MATCH_SIZE + home.length + away.length;
+        }
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("Scoreboard is too large for a single snapshot.");
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate((int) size);
+        buffer.putInt(MAGIC).putInt(FORMAT_VERSION).putLong(lastStartSequence).putInt(matches.size());
+        for (int i = 0; i < matches.size(); i++) {
+            Match match = matches.get(i);
+            Match.Score score = match.getScore();
+            LocalDateTime startTime = match.getStartTime();
+            byte[] home = names.get(2 * i);
+            byte[] away = names.get(2 * i + 1);
+            buffer.putLong(match.getStartSequence())
+                    .putLong(startTime.toEpochSecond(ZoneOffset.UTC))
+                    .putInt(startTime.getNano())
+                    .putInt(score.home())
+                    .putInt(score.away())
+                    .putInt(home.length).put(home)
+                    .putInt(away.length).put(away);
+        }
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.array(), 0, buffer.position());
+        buffer.putInt((int) crc.getValue());
+        buffer.flip();
+
+        // Write next to the target and move it into place, so a crash never leaves half a snapshot
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    static Contents read(Path file) throws IOException {
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_SIZE + 4 || size > Integer.MAX_VALUE) {
+                throw new IOException("Not a scoreboard snapshot.");
+            }
+            buffer = ByteBuffer.allocate((int) size);
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer) < 0) {
+                    throw new IOException("Scoreboard snapshot is truncated.");
+                }
+            }
+        }
+        buffer.flip();
+        if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION) {
+            throw new IOException("Not a scoreboard snapshot.");
+        }
+        int checked = buffer.limit() - 4;
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.array(), 0, checked);
+        if ((int) crc.getValue() != buffer.getInt(checked)) {
+            throw new IOException("Scoreboard snapshot is corrupt.");
+        }
+
+        long lastStartSequence = buffer.getLong();
+        int count = buffer.getInt();
+        List<Match> matches = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            long startSequence = buffer.getLong();
+            LocalDateTime startTime = LocalDateTime.ofEpochSecond(buffer.getLong(), buffer.getInt(), ZoneOffset.UTC);
+            int homeScore = buffer.getInt();
+            int awayScore = buffer.getInt();
+            String home = readString(buffer);
+            String away = readString(buffer);
+            Match match = new Match(home, away, startTime, startSequence);
+            match.updateScore(homeScore, awayScore);
+            matches.add(match);
+        }
+        return new Contents(lastStartSequence, matches);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        String value = new String(buffer.array(), buffer.position(), length, StandardCharsets.UTF_8);
+        buffer.position(buffer.position() + length);
+        return value;
+    }
+}
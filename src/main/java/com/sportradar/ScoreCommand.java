@@ -0,0 +1,56 @@
+package com.sportradar;
+
+/**
+ * <p>
+ * A single scoreboard mutation, as applied in bulk by {@link ScoreBoard#applyBatch(java.util.List)}.
+ * Each command mirrors one of the {@code ScoreBoard} methods and is validated the same way.
+ * </p>
+ *
+ * <h3>Usage:</h3>
+ * <pre>{@code
+ * BatchResult result = scoreboard.applyBatch(List.of(
+ *         ScoreCommand.start("Mexico", "Canada"),
+ *         ScoreCommand.update("Mexico", "Canada", 0, 1),
+ *         ScoreCommand.update("Spain", "Brazil", 1, 0),
+ *         ScoreCommand.finish("Germany", "France")));
+ * }</pre>
+ *
+ * @see BatchResult
+ * @since 1.0
+ */
+public sealed interface ScoreCommand {
+
+    String homeTeam();
+
+    String awayTeam();
+
+    static ScoreCommand start(String homeTeam, String awayTeam) {
+        return new Start(homeTeam, awayTeam);
+    }
+
+    static ScoreCommand update(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        return new Update(homeTeam, awayTeam, homeScore, awayScore);
+    }
+
+    static ScoreCommand finish(String homeTeam, String awayTeam) {
+        return new Finish(homeTeam, awayTeam);
+    }
+
+    /**
+     * Same as {@link ScoreBoard#startMatch(String, String)}.
+     */
+    record Start(String homeTeam, String awayTeam) implements ScoreCommand {
+    }
+
+    /**
+     * Same as {@link ScoreBoard#updateScore(String, String, int, int)}.
+     */
+    record Update(String homeTeam, String awayTeam, int homeScore, int awayScore) implements ScoreCommand {
+    }
+
+    /**
+     * Same as {@link ScoreBoard#finishMatch(String, String)}.
+     */
+    record Finish(String homeTeam, String awayTeam) implements ScoreCommand {
+    }
+}
@@ -0,0 +1,199 @@
+package com.sportradar;
+
+import java.util.Arrays;
+
+/**
+ * <p>
+ * Summary order packed into one {@code long} per match, for the stores that sort
+ * primitive columns instead of keeping matches sorted: the total score in the high bits
+ * and the start sequence in the low {@value #SEQUENCE_BITS} bits. Summary order is
+ * descending sort key order, so a sort is a plain {@code long} comparison.
+ * </p>
+ *
+ * @see PrimitiveMatchStore
+ * @see OffHeapMatchStore
+ */
+final class SortKeys {
+    static final int SEQUENCE_BITS = 43;
+    static final long MAX_START_SEQUENCE = (1L << SEQUENCE_BITS) - 1;
+    static final int MAX_TOTAL = (1 << (63 - SEQUENCE_BITS)) - 1;
+
+    private SortKeys() {
+    }
+
+    /**
+     * @throws IllegalArgumentException if the start sequence does not fit a sort key.
+     */
+    static void checkStartSequence(long startSequence) {
+        if (startSequence < 0 || startSequence > MAX_START_SEQUENCE) {
+            throw new IllegalArgumentException("Start sequence " + startSequence + " is out of range for this store.");
+        }
+    }
+
+    /**
+     * @throws IllegalArgumentException if the total does not fit a sort key.
+     */
+    static void checkTotal(long totalScore) {
+        if (totalScore > MAX_TOTAL) {
+            throw new IllegalArgumentException("Total score " + totalScore + " is out of range for this store.");
+        }
+    }
+
+    /**
+     * @return The sort key of a match with the given total and start sequence.
+     * @throws IllegalArgumentException if the total does not fit a sort key.
+     */
+    static long of(long totalScore, long startSequence) {
+        checkTotal(totalScore);
+        return totalScore << SEQUENCE_BITS | startSequence;
+    }
+
+    /**
+     * @return The total of a {@link Match#packedScore()}, which may exceed an {@code int}.
+     */
+    static long totalOf(long packedScore) {
+        return (long) Match.homeOf(packedScore) + Match.awayOf(packedScore);
+    }
+
+    /**
+     * Sorts {@code keys[0, length)} in descending order, moving {@code values} along.
+     * An LSD radix sort on bytes, which skips the bytes all keys share; with start
+     * sequences and totals far below their maximum that leaves three or four passes
+     * of two linear scans each.
+     */
+    static void sortDescending(long[] keys, int[] values, int length) {
+        if (length < 64) {
+            insertionSortDescending(keys, values, length);
+            return;
+        }
+        long all = 0;
+        for (int i = 0; i < length; i++) {
+            all |= keys[i];
+        }
+        long[] fromKeys = keys;
+        int[] fromValues = values;
+        long[] toKeys = new long[length];
+        int[] toValues = new int[length];
+        int[] offsets = new int[256];
+        for (int shift = 0; shift < 64 - Long.numberOfLeadingZeros(all); shift += 8) {
+            Arrays.fill(offsets, 0);
+            for (int i = 0; i < length; i++) {
+                offsets[(int) (fromKeys[i] >>> shift) & 0xFF]++;
+            }
+            if (offsets[(int) (fromKeys[0] >>> shift) & 0xFF] == length) {
+                continue;
+            }
+            // Largest digit first for descending order; stable, so earlier passes' order is kept within a digit
+            int position = 0;
+            for (int digit = 255; digit >= 0; digit--) {
+                int digitCount = offsets[digit];
+                offsets[digit] = position;
+                position += digitCount;
+            }
+            for (int i = 0; i < length; i++) {
+                int target = offsets[(int) (fromKeys[i] >>> shift) & 0xFF]++;
+                toKeys[target] = fromKeys[i];
+                toValues[target] = fromValues[i];
+            }
+            long[] swappedKeys = fromKeys;
+            fromKeys = toKeys;
+            toKeys = swappedKeys;
+            int[] swappedValues = fromValues;
+            fromValues = toValues;
+            toValues = swappedValues;
+        }
+        if (fromKeys != keys) {
+            System.arraycopy(fromKeys, 0, keys, 0, length);
+            System.arraycopy(fromValues, 0, values, 0, length);
+        }
+    }
+
+    private static void insertionSortDescending(long[] keys, int[] values, int length) {
+        for (int i = 1; i < length; i++) {
+            long key = keys[i];
+            int value = values[i];
+            int j = i - 1;
+            while (j >= 0 && keys[j] < key) {
+                keys[j + 1] = keys[j];
+                values[j + 1] = values[j];
+                j--;
+            }
+            keys[j + 1] = key;
+            values[j + 1] = value;
+        }
+    }
+
+    /**
+     * Keeps the values of the {@code k} largest keys offered, in a min-heap of size
+     * {@code k}, so selecting the leading matches of a board is O(n log k).
+     */
+    static final class Top {
+        private final long[] keys;
+        private final int[] values;
+        private int size;
+
+        Top(int k) {
+            keys = new long[k];
+            values = new int[k];
+        }
+
+        void offer(long key, int value) {
+            if (size < keys.length) {
+                keys[size] = key;
+                values[size] = value;
+                siftUp(size++);
+            } else if (size > 0 && key > keys[0]) {
+                keys[0] = key;
+                values[0] = value;
+                siftDown(0);
+            }
+        }
+
+        /**
+         * @return The kept values, largest key first. The heap is consumed.
+         */
+        int[] valuesDescending() {
+            sortDescending(keys, values, size);
+            return Arrays.copyOf(values, size);
+        }
+
+        private void siftUp(int i) {
+            while (i > 0) {
+                int parent = (i - 1) / 2;
+                if (keys[parent] <= keys[i]) {
+                    return;
+                }
+                swap(i, parent);
+                i = parent;
+            }
+        }
+
+        private void siftDown(int i) {
+            while (true) {
+                int smallest = i;
+                int left = 2 * i + 1;
+                int right = left + 1;
+                if (left < size && keys[left] < keys[smallest]) {
+                    smallest = left;
+                }
+                if (right < size && keys[right] < keys[smallest]) {
+                    smallest = right;
+                }
+                if (smallest == i) {
+                    return;
+                }
+                swap(i, smallest);
+                i = smallest;
+            }
+        }
+
+        private void swap(int i, int j) {
+            long key = keys[i];
+            keys[i] = keys[j];
+            keys[j] = key;
+            int value = values[i];
+            values[i] = values[j];
+            values[j] = value;
+        }
+    }
+}
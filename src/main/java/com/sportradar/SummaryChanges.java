@@ -0,0 +1,208 @@
+package com.sportradar;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <p>
+ * A {@link Flow.Publisher} of {@link SummaryDiff}s for one {@link ScoreBoard}, obtained
+ * from {@link ScoreBoard#changes()}. Instead of polling {@code getSummary()}, a consumer
+ * subscribes, then takes the {@link #baseline()} once and applies every following diff.
+ * Each diff starts from the version the previous one led to, so after subscribing a
+ * consumer skips the diffs that end at or before its baseline and applies the rest.
+ * </p>
+ *
+ * <h3>Usage:</h3>
+ * <pre>{@code
+ * SummaryChanges changes = scoreboard.changes();
+ * changes.subscribe(new Flow.Subscriber<>() {
+ *     public void onSubscribe(Flow.Subscription s) { s.request(Long.MAX_VALUE); }
+ *     public void onNext(SummaryDiff diff) {
+ *         if (diff.toVersion() > view.version()) {
+ *             view = new SummarySnapshot(diff.toVersion(), diff.applyTo(view.matches()));
+ *         }
+ *     }
+ *     public void onError(Throwable t) { }
+ *     public void onComplete() { }
+ * });
+ * view = changes.baseline();
+ * }</pre>
+ *
+ * <h3>Delivery and backpressure:</h3>
+ * <p>
+ * Mutations only signal this publisher; diffs are computed asynchronously on the
+ * executor by comparing consecutive published summaries, never on the write path and
+ * only while someone is subscribed. Signals that arrive while a diff is being computed
+ * or delivered are coalesced into the next one. Delivery goes through a
+ * {@link SubmissionPublisher} with a bounded buffer per subscriber: when a subscriber's
+ * buffer is full the diff task waits, mutations keep being coalesced meanwhile, and the
+ * slow subscriber receives fewer, larger diffs rather than an unbounded backlog.
+ * </p>
+ *
+ * @see SummaryDiff
+ * @since 1.0
+ */
+public class SummaryChanges implements Flow.Publisher<SummaryDiff>, AutoCloseable {
+    private final ScoreBoard board;
+    private final Executor executor;
+    private final SubmissionPublisher<SummaryDiff> publisher;
+    // Signals not yet covered by a computed diff; the thread that raises it from 0 runs the drain loop
+    private final AtomicInteger pendingSignals = new AtomicInteger();
+
+    // The summary the next diff starts from; written by the drain loop before the diff leading to it is submitted
+    private volatile SummarySnapshot baseline;
+    // Scores of the baseline's matches when it was taken, only touched by the drain loop
+    private Map<Match, Long> baselineScores;
+
+    SummaryChanges(ScoreBoard board, Executor executor, int bufferCapacity) {
+        this.board = board;
+        this.executor = executor;
+        this.publisher = new SubmissionPublisher<>(executor, bufferCapacity);
+        SummarySnapshot snapshot = board.getSummarySnapshot();
+        Map<Match, Long> scores = new IdentityHashMap<>(snapshot.matches().size() * 2);
+        for (Match match : snapshot.matches()) {
+            scores.put(match, match.packedScore());
+        }
+        baselineScores = scores;
+        baseline = snapshot;
+    }
+
+    /**
+     * Subscribes to the diffs published from now on. The first one brings the subscriber
+     * from the current {@link #baseline()} up to date even if the board stays idle.
+     */
+    @Override
+    public void subscribe(Flow.Subscriber<? super SummaryDiff> subscriber) {
+        publisher.subscribe(subscriber);
+        signal();
+    }
+
+    /**
+     * The summary the next published diff starts from. Taken after subscribing, it is the
+     * starting point of a consumer's view.
+     *
+     * @return The current baseline.
+     */
+    public SummarySnapshot baseline() {
+        return baseline;
+    }
+
+    /**
+     * Completes all subscribers; no further diffs are published.
+     */
+    @Override
+    public void close() {
+        publisher.close();
+    }
+
+    /**
+     * Called by the board after every mutation.
+     */
+    void signal() {
+        if (publisher.hasSubscribers() && pendingSignals.getAndIncrement() == 0) {
+            executor.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        int covered;
+        do {
+            covered = pendingSignals.get();
+            if (!publisher.isClosed()) {
+                publishDiff();
+            }
+        } while (pendingSignals.addAndGet(-covered) != 0);
+    }
+
+    private void publishDiff() {
+        SummarySnapshot current = board.getSummarySnapshot();
+        SummarySnapshot last = baseline;
+        if (current.version() == last.version()) {
+            return;
+        }
+        List<Match> lastMatches = last.matches();
+        List<Match> matches = current.matches();
+        Map<Match, Integer> oldRanks = new IdentityHashMap<>(lastMatches.size() * 2);
+        for (int rank = 0; rank < lastMatches.size(); rank++) {
+            oldRanks.put(lastMatches.get(rank), rank);
+        }
+
+        List<SummaryDiff.Change> changes = new ArrayList<>();
+        // Each score is read once, for both the diff and the next baseline, so no change can slip in between
+        Map<Match, Long> scores = new IdentityHashMap<>(matches.size() * 2);
+        // Old ranks of the surviving matches in new order; those on a longest increasing run kept their place
+        int[] survivorOldRanks = new int[matches.size()];
+        int[] survivorNewRanks = new int[matches.size()];
+        int survivors = 0;
+        for (int rank = 0; rank < matches.size(); rank++) {
+            Match match = matches.get(rank);
+            long score = match.packedScore();
+            scores.put(match, score);
+            Integer oldRank = oldRanks.remove(match);
+            if (oldRank == null) {
+                changes.add(new SummaryDiff.Started(match, rank));
+                continue;
+            }
+            if (baselineScores.get(match) != score) {
+                changes.add(new SummaryDiff.ScoreChanged(match, new Match.Score(Match.homeOf(score), Match.awayOf(score))));
+            }
+            survivorOldRanks[survivors] = oldRank;
+            survivorNewRanks[survivors] = rank;
+            survivors++;
+        }
+        boolean[] stayed = longestIncreasingRun(survivorOldRanks, survivors);
+        for (int i = 0; i < survivors; i++) {
+            if (!stayed[i]) {
+                changes.add(new SummaryDiff.RankMoved(matches.get(survivorNewRanks[i]), survivorOldRanks[i], survivorNewRanks[i]));
+            }
+        }
+        for (Map.Entry<Match, Integer> finished : oldRanks.entrySet()) {
+            changes.add(new SummaryDiff.Finished(finished.getKey(), finished.getValue()));
+        }
+
+        SummaryDiff diff = new SummaryDiff(last.version(), current.version(), List.copyOf(changes));
+        // Rebase first: a consumer that reads the new baseline before this diff arrives just skips it
+        baselineScores = scores;
+        baseline = current;
+        // Blocks while a subscriber's buffer is full; signals meanwhile are coalesced into the next diff
+        publisher.submit(diff);
+    }
+
+    /**
+     * Marks one longest strictly increasing subsequence of {@code values[0..length)}
+     * (patience sorting, O(n log n)).
+     */
+    private static boolean[] longestIncreasingRun(int[] values, int length) {
+        int[] tails = new int[length];   // index into values of the smallest tail of a run of each length
+        int[] previous = new int[length];
+        int runs = 0;
+        for (int i = 0; i < length; i++) {
+            int low = 0;
+            int high = runs;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (values[tails[mid]] < values[i]) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            previous[i] = low > 0 ? tails[low - 1] : -1;
+            tails[low] = i;
+            if (low == runs) {
+                runs++;
+            }
+        }
+        boolean[] marked = new boolean[length];
+        for (int i = runs > 0 ? tails[runs - 1] : -1; i >= 0; i = previous[i]) {
+            marked[i] = true;
+        }
+        return marked;
+    }
+}
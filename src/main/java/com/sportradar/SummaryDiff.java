@@ -0,0 +1,94 @@
+package com.sportradar;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>
+ * The difference between two published summaries of a {@link ScoreBoard}, as emitted
+ * by {@link SummaryChanges}. A diff lists only the matches that changed:
+ * </p>
+ * <ul>
+ * <li>{@link Started}: a new match and its rank in the newer summary,</li>
+ * <li>{@link ScoreChanged}: a match whose score changed, with the new score,</li>
+ * <li>{@link RankMoved}: a match that moved relative to the others, with its old and new rank,</li>
+ * <li>{@link Finished}: a match that left the board, with its rank in the older summary.</li>
+ * </ul>
+ * <p>
+ * Ranks are 0-based summary positions. Matches that only shift because others were
+ * inserted above or removed above them are not listed, so a goal in one match produces
+ * one or two changes regardless of the board size. {@link #applyTo(List)} turns the
+ * summary at {@code fromVersion} into the summary at {@code toVersion}.
+ * </p>
+ *
+ * @param fromVersion The version of the summary the diff starts from.
+ * @param toVersion   The version of the summary the diff leads to.
+ * @param changes     The changes; unmodifiable.
+ * @see SummaryChanges
+ * @since 1.0
+ */
+public record SummaryDiff(long fromVersion, long toVersion, List<Change> changes) {
+
+    /**
+     * One change of a {@link SummaryDiff}.
+     */
+    public sealed interface Change {
+        Match match();
+    }
+
+    public record Started(Match match, int rank) implements Change {
+    }
+
+    public record ScoreChanged(Match match, Match.Score score) implements Change {
+    }
+
+    public record RankMoved(Match match, int fromRank, int toRank) implements Change {
+    }
+
+    public record Finished(Match match, int rank) implements Change {
+    }
+
+    /**
+     * Applies this diff to the summary it was computed from.
+     *
+     * @param summary The matches of the summary at {@link #fromVersion()}, in summary order.
+     * @return A new list with the matches of the summary at {@link #toVersion()}, in summary order.
+     */
+    public List<Match> applyTo(List<Match> summary) {
+        Map<Match, Boolean> removed = new IdentityHashMap<>();
+        List<Change> inserted = new ArrayList<>();
+        for (Change change : changes) {
+            switch (change) {
+                case Finished finished -> removed.put(finished.match(), Boolean.TRUE);
+                case RankMoved moved -> {
+                    removed.put(moved.match(), Boolean.TRUE);
+                    inserted.add(moved);
+                }
+                case Started started -> inserted.add(started);
+                case ScoreChanged ignored -> {
+                    // the position is covered by a RankMoved if it changed
+                }
+            }
+        }
+        List<Match> result = new ArrayList<>(summary.size() + inserted.size());
+        for (Match match : summary) {
+            if (!removed.containsKey(match)) {
+                result.add(match);
+            }
+        }
+        // What is left keeps its relative order; inserting at the new ranks in ascending order rebuilds the rest
+        inserted.sort(Comparator.comparingInt(SummaryDiff::newRank));
+        for (Change change : inserted) {
+            result.add(newRank(change), change.match());
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    private static int newRank(Change change) {
+        return change instanceof Started started ? started.rank() : ((RankMoved) change).toRank();
+    }
+}
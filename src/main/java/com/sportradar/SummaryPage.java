@@ -0,0 +1,40 @@
+package com.sportradar;
+
+import java.util.List;
+
+/**
+ * <p>
+ * One page of a {@link ScoreBoard} summary, as returned by
+ * {@link ScoreBoard#getSummaryPage(int, int)} and
+ * {@link ScoreBoard#getSummaryPage(long, int, int)}.
+ * </p>
+ *
+ * <p>
+ * A page is a view of one immutable {@link SummarySnapshot}, so serving it copies
+ * nothing. Passing {@link #version()} and {@link #nextOffset()} back to
+ * {@link ScoreBoard#getSummaryPage(long, int, int)} continues the walk through the
+ * same snapshot, which keeps pages stable while the board keeps changing.
+ * </p>
+ *
+ * @param version      The board version of the snapshot the page was cut from.
+ * @param offset       The summary position of the first match on the page.
+ * @param totalMatches The number of matches in the whole snapshot.
+ * @param matches      The matches on this page, in summary order; unmodifiable.
+ * @since 1.0
+ */
+public record SummaryPage(long version, int offset, int totalMatches, List<Match> matches) {
+
+    /**
+     * @return The offset of the page following this one.
+     */
+    public int nextOffset() {
+        return offset + matches.size();
+    }
+
+    /**
+     * @return {@code true} if the snapshot has matches after this page.
+     */
+    public boolean hasNext() {
+        return nextOffset() < totalMatches;
+    }
+}
@@ -0,0 +1,32 @@
+package com.sportradar;
+
+import java.util.List;
+
+/**
+ * <p>
+ * An immutable, pre-sorted summary of a {@link ScoreBoard}, as published by
+ * {@link ScoreBoard#getSummarySnapshot()}. The list is in summary order and never
+ * changes after publication, so it can be shared between any number of readers
+ * without copying.
+ * </p>
+ *
+ * <p>
+ * {@code version} counts the successful mutations (starts, score updates, finishes)
+ * the board had applied when the snapshot was built. A reader holding a snapshot can
+ * compare versions to tell whether anything changed since. The {@link Match} objects
+ * in the list are the board's live matches; their order reflects the scores as of
+ * {@code version}.
+ * </p>
+ *
+ * @param version The board version the snapshot was built at.
+ * @param matches The matches in progress, in summary order; unmodifiable.
+ * @see ScoreBoard#getSummarySnapshot()
+ * @since 1.0
+ */
+public record SummarySnapshot(long version, List<Match> matches) {
+
+    /**
+     * The snapshot of a board nothing has happened to yet.
+     */
+    public static final SummarySnapshot EMPTY = new SummarySnapshot(0L, List.of());
+}
@@ -0,0 +1,182 @@
+package com.sportradar;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <p>
+ * Canonicalizes team names to compact {@code int} IDs. Names are compared
+ * case-insensitively: {@code "Mexico"} and {@code "MEXICO"} get the same ID, which is
+ * assigned the first time any spelling of the name is registered.
+ * </p>
+ *
+ * <p>
+ * Every {@link #register(String)} holds the team until it is given back with
+ * {@link #release(int)}. {@link Match} registers its teams once its names are validated,
+ * and a {@link ScoreBoard} releases them when it finishes the match or turns the start
+ * down, so the registry only holds teams that are playing (plus those of matches created
+ * outside a board). A team that is no longer held is forgotten, and registering it
+ * again hands out a new ID. IDs are never reused, so a finished match can never be
+ * mistaken for a match of other teams.
+ * </p>
+ *
+ * <p>
+ * The spelling a team was first registered with is remembered next to its canonical
+ * form, so resolving a name as a feed usually sends it is a single hash lookup on the
+ * string as given, without lowercasing or allocating. Other spellings pay for the
+ * canonicalization on every lookup and are never stored, so the registry holds two
+ * entries per team however many case variants clients send. {@link #find(String)} never
+ * registers anything. {@link Match} identity and the {@link MatchStore} index are built on
+ * these IDs through the {@link #shared()} registry.
+ * </p>
+ *
+ * @see Match#key(String, String)
+ * @since 1.0
+ */
+public class TeamRegistry {
+    /**
+     * Returned by {@link #find(String)} for a name that is not registered.
+     */
+    public static final int UNKNOWN = -1;
+
+    private static final TeamRegistry SHARED = new TeamRegistry();
+
+    // The first registered spelling of each team, as given
+    private final Map<String, Integer> idsBySpelling = new ConcurrentHashMap<>();
+    // The lowercased name, the single source of truth for IDs
+    private final Map<String, Integer> idsByCanonicalName = new ConcurrentHashMap<>();
+    // Registered teams by ID; all three maps are changed under the registry's monitor
+    private final Map<Integer, Team> teamsById = new ConcurrentHashMap<>();
+    private int nextId;
+
+    /**
+     * The registry used by {@link Match}, so that the IDs of a team are the same on every board.
+     *
+     * @return The process-wide registry.
+     */
+    public static TeamRegistry shared() {
+        return SHARED;
+    }
+
+    /**
+     * Returns the ID of a team, registering it if it is new. The team stays registered
+     * until every registration is given back with {@link #release(int)}.
+     *
+     * @param name The team name, in any letter case.
+     * @return The team's ID, at least 0.
+     * @throws IllegalArgumentException if the name is null.
+     * @throws IllegalStateException    if the registry has handed out every ID.
+     */
+    public synchronized int register(String name) {
+        if (name == null) {
+            throw new IllegalArgumentException("Team names cannot be null or empty.");
+        }
+        Integer id = idsBySpelling.get(name);
+        if (id == null) {
+            String canonicalName = name.toLowerCase(Locale.ROOT);
+            id = idsByCanonicalName.get(canonicalName);
+            if (id == null) {
+                if (nextId < 0) {
+                    throw new IllegalStateException("The team registry has run out of IDs.");
+                }
+                id = nextId++;
+                teamsById.put(id, new Team(canonicalName, name));
+                idsByCanonicalName.put(canonicalName, id);
+                idsBySpelling.put(name, id);
+            }
+        }
+        teamsById.get(id).registrations++;
+        return id;
+    }
+
+    /**
+     * Gives back one {@link #register(String)} of a team. When the last one is given back
+     * the team is forgotten: {@link #find(String)} no longer knows it and its ID is not
+     * handed out again.
+     *
+     * @param id An ID handed out by this registry.
+     * @throws IllegalArgumentException if the ID is not registered.
+     */
+    public synchronized void release(int id) {
+        Team team = teamsById.get(id);
+        if (team == null) {
+            throw new IllegalArgumentException("Unknown team id " + id + ".");
+        }
+        if (--team.registrations == 0) {
+            teamsById.remove(id);
+            idsByCanonicalName.remove(team.canonicalName);
+            idsBySpelling.remove(team.spelling);
+        }
+    }
+
+    /**
+     * Returns the ID of a team without registering it, so looking up unknown names
+     * never grows the registry.
+     *
+     * @param name The team name, in any letter case.
+     * @return The team's ID, or {@link #UNKNOWN} if no spelling of it is registered.
+     * @throws IllegalArgumentException if the name is null.
+     */
+    public int find(String name) {
+        if (name == null) {
+            throw new IllegalArgumentException("Team names cannot be null or empty.");
+        }
+        Integer id = idsBySpelling.get(name);
+        if (id == null) {
+            id = idsByCanonicalName.get(name.toLowerCase(Locale.ROOT));
+            if (id == null) {
+                return UNKNOWN;
+            }
+        }
+        return id;
+    }
+
+    /**
+     * Whether two names are spellings of the same team, without registering either.
+     *
+     * @throws IllegalArgumentException if either name is null.
+     */
+    boolean sameTeam(String name, String otherName) {
+        int id = find(name);
+        int otherId = find(otherName);
+        if (id != UNKNOWN || otherId != UNKNOWN) {
+            // A registered team only matches a registered name
+            return id == otherId;
+        }
+        return name.equals(otherName) || name.toLowerCase(Locale.ROOT).equals(otherName.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * @param id An ID handed out by this registry.
+     * @return The lowercased name the ID stands for.
+     * @throws IllegalArgumentException if the ID is not registered.
+     */
+    public String canonicalName(int id) {
+        Team team = teamsById.get(id);
+        if (team == null) {
+            throw new IllegalArgumentException("Unknown team id " + id + ".");
+        }
+        return team.canonicalName;
+    }
+
+    /**
+     * @return How many distinct teams are registered.
+     */
+    public int size() {
+        return idsByCanonicalName.size();
+    }
+
+    private static final class Team {
+        private final String canonicalName;
+        // The spelling cached in idsBySpelling
+        private final String spelling;
+        // Guarded by the registry's monitor
+        private int registrations;
+
+        private Team(String canonicalName, String spelling) {
+            this.canonicalName = canonicalName;
+            this.spelling = spelling;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.sportradar;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Holds the latest pending score of each match while {@link ScoreBoard} coalesces
+ * updates, and writes them to the board once per window. A match updated many times
+ * within a window is therefore repositioned and versioned once, with its last score.
+ * <p>
+ * The first pending update of a window schedules a flush of all pending matches one
+ * window later. Flushes of every board run on one shared daemon thread, so the flushes
+ * of a board never overlap and each match's pending scores are written in order.
+ * The board is passed to each call rather than kept, so it can create its coalescer
+ * while it is still being constructed.
+ * </p>
+ * <p>
+ * A scheduled flush runs on no caller's thread, so a write that fails there, e.g. because
+ * the journal cannot be appended to, is kept and thrown as the cause of an
+ * {@link IllegalStateException} from the board's next coalesced update or
+ * {@link ScoreBoard#flushPendingUpdates()}. The failed update is dropped, and the board
+ * is left as it was before it, like after any failed write. The other pending matches of
+ * that flush are still written.
+ * </p>
+ */
+final class UpdateCoalescer {
+    private static final ScheduledExecutorService FLUSHER = Executors.newSingleThreadScheduledExecutor(
+            task -> Thread.ofPlatform().name("scoreboard-coalescer").daemon().unstarted(task));
+
+    private final long windowNanos;
+    // Keyed by Match, i.e. by home/away key; the value names the exact match it was accepted for
+    private final ConcurrentHashMap<Match, PendingScore> pending = new ConcurrentHashMap<>();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    // The first write failure not yet reported to a caller
+    private final AtomicReference<RuntimeException> failure = new AtomicReference<>();
+
+    UpdateCoalescer(long windowNanos) {
+        this.windowNanos = windowNanos;
+    }
+
+    private record PendingScore(Match match, int homeScore, int awayScore) {
+    }
+
+    /**
+     * Replaces the pending score of the match, scheduling a flush if none is due.
+     *
+     * @throws IllegalStateException if an earlier pending score could not be written;
+     *                               this score is then not accepted.
+     */
+    void offer(ScoreBoard board, Match match, int homeScore, int awayScore) {
+        reportFailure();
+        pending.put(match, new PendingScore(match, homeScore, awayScore));
+        scheduleFlush(board);
+    }
+
+    /**
+     * Writes the pending score of the match now, if it has one. The caller holds the
+     * match's monitor, like {@link #flush(ScoreBoard)} does while writing it.
+     */
+    void writePending(ScoreBoard board, Match match) {
+        PendingScore score = pending.get(match);
+        // A pending score of an earlier match between the same teams is not this match's
+        if (score != null && score.match() == match && pending.remove(match, score)) {
+            board.writeCoalesced(match, score.homeScore(), score.awayScore());
+        }
+    }
+
+    /**
+     * Discards the pending score of the match, superseded by a direct write or a finish.
+     * The caller holds the match's monitor.
+     */
+    void discard(Match match) {
+        PendingScore score = pending.get(match);
+        // Like writePending: an old handle of the teams must not drop the pending score of their restarted match
+        if (score != null && score.match() == match) {
+            pending.remove(match, score);
+        }
+    }
+
+    /**
+     * Writes every pending score now.
+     */
+    void flush(ScoreBoard board) {
+        // Reset first: an update arriving during the walk either is written by it or schedules the next flush
+        flushScheduled.set(false);
+        for (PendingScore score : pending.values()) {
+            Match match = score.match();
+            synchronized (match) {
+                try {
+                    writePending(board, match);
+                } catch (RuntimeException e) {
+                    // Keep writing the other matches; the caller learns about it on its next call
+                    failure.compareAndSet(null, e);
+                }
+            }
+        }
+        if (!pending.isEmpty()) {
+            scheduleFlush(board);
+        }
+    }
+
+    /**
+     * Throws the first write failure of a flush that was not reported yet, once.
+     *
+     * @throws IllegalStateException with the failure as its cause.
+     */
+    void reportFailure() {
+        RuntimeException e = failure.get() == null ? null : failure.getAndSet(null);
+        if (e != null) {
+            throw new IllegalStateException("A coalesced score update could not be written.", e);
+        }
+    }
+
+    private void scheduleFlush(ScoreBoard board) {
+        if (!flushScheduled.get() && flushScheduled.compareAndSet(false, true)) {
+            FLUSHER.schedule(() -> flush(board), windowNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+}
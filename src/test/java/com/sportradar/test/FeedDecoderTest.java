@@ -0,0 +1,203 @@
+package com.sportradar.test;
+
+import com.sportradar.FeedDecoder;
+import com.sportradar.ConcurrentMatchStore;
+import com.sportradar.Match;
+import com.sportradar.ScoreBoard;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FeedDecoderTest {
+    private ScoreBoard scoreboard;
+    private FeedDecoder decoder;
+
+    @BeforeEach
+    void setUp() {
+        scoreboard = new ScoreBoard();
+        decoder = new FeedDecoder(scoreboard);
+    }
+
+    private static void team(ByteBuffer feed, int teamRef, String name) {
+        byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+        feed.put(FeedDecoder.TEAM).putInt(teamRef).putShort((short) bytes.length).put(bytes);
+    }
+
+    private static void start(ByteBuffer feed, int matchRef, int homeTeamRef, int awayTeamRef) {
+        feed.put(FeedDecoder.START).putInt(matchRef).putInt(homeTeamRef).putInt(awayTeamRef);
+    }
+
+    private static void score(ByteBuffer feed, int matchRef, int homeScore, int awayScore) {
+        feed.put(FeedDecoder.SCORE).putInt(matchRef).putInt(homeScore).putInt(awayScore);
+    }
+
+    private static void finish(ByteBuffer feed, int matchRef) {
+        feed.put(FeedDecoder.FINISH).putInt(matchRef);
+    }
+
+    @Test
+    @DisplayName("Should start, update and finish matches from binary frames")
+    void shouldApplyFrames() {
+        ByteBuffer feed = ByteBuffer.allocate(256);
+        team(feed, 10, "Mexico");
+        team(feed, 11, "Canada");
+        team(feed, 12, "Spain");
+        team(feed, 13, "Brazil");
+        start(feed, 100, 10, 11);
+        start(feed, 101, 12, 13);
+        score(feed, 100, 0, 5);
+        score(feed, 101, 10, 2);
+        finish(feed, 100);
+        feed.flip();
+
+        assertEquals(9, decoder.decode(feed));
+        assertFalse(feed.hasRemaining());
+        List<Match> summary = scoreboard.getSummary();
+        assertEquals(1, summary.size());
+        assertEquals("Spain 10 - Brazil 2", summary.get(0).toString());
+        assertEquals(0, decoder.getRejectedCount());
+    }
+
+    @Test
+    @DisplayName("Should leave an incomplete frame in the buffer until the rest arrives")
+    void shouldResumeSplitFrames() {
+        ByteBuffer whole = ByteBuffer.allocate(256);
+        team(whole, 1, "Germany");
+        team(whole, 2, "France");
+        start(whole, 7, 1, 2);
+        score(whole, 7, 2, 1);
+        whole.flip();
+        byte[] bytes = new byte[whole.remaining()];
+        whole.get(bytes);
+
+        // Deliver the feed in chunks of three bytes into a direct buffer, as a socket might
+        ByteBuffer buffer = ByteBuffer.allocateDirect(64);
+        int frames = 0;
+        for (int offset = 0; offset < bytes.length; offset += 3) {
+            buffer.put(bytes, offset, Math.min(3, bytes.length - offset));
+            buffer.flip();
+            frames += decoder.decode(buffer);
+            buffer.compact();
+        }
+
+        assertEquals(4, frames);
+        assertEquals(0, buffer.position());
+        assertEquals("Germany 2 - France 1", scoreboard.getSummary().get(0).toString());
+    }
+
+    @Test
+    @DisplayName("Should count frames the board refuses and keep decoding")
+    void shouldSkipRejectedFrames() {
+        ByteBuffer feed = ByteBuffer.allocate(256);
+        team(feed, 1, "Mexico");
+        team(feed, 2, "Canada");
+        start(feed, 5, 1, 3);   // undeclared team
+        start(feed, 6, 1, 1);   // same team twice
+        score(feed, 9, 1, 0);   // unknown match
+        start(feed, 7, 1, 2);
+        score(feed, 7, -1, 0);  // negative score
+        start(feed, 8, 1, 2);   // already in progress
+        finish(feed, 9);        // unknown match
+        score(feed, 7, 1, 0);
+        feed.flip();
+
+        assertEquals(10, decoder.decode(feed));
+        assertEquals(6, decoder.getRejectedCount());
+        assertEquals("Mexico 1 - Canada 0", scoreboard.getSummary().get(0).toString());
+    }
+
+    @Test
+    @DisplayName("Should reject a score for a match finished outside the feed")
+    void shouldDropStaleHandles() {
+        ByteBuffer feed = ByteBuffer.allocate(64);
+        team(feed, 1, "Mexico");
+        team(feed, 2, "Canada");
+        start(feed, 5, 1, 2);
+        feed.flip();
+        decoder.decode(feed);
+
+        scoreboard.finishMatch("Mexico", "Canada");
+        scoreboard.startMatch("Mexico", "Canada");
+        feed.clear();
+        score(feed, 5, 3, 0);
+        feed.flip();
+        decoder.decode(feed);
+
+        assertEquals(1, decoder.getRejectedCount());
+        assertEquals(0, scoreboard.getSummary().get(0).getTotalScore(), "the restarted match is not the handle");
+    }
+
+    @Test
+    @DisplayName("Should stop at a frame of unknown type")
+    void shouldRejectCorruptStream() {
+        ByteBuffer feed = ByteBuffer.allocate(64);
+        team(feed, 1, "Mexico");
+        feed.put((byte) 99);
+        feed.flip();
+
+        assertThrows(IllegalArgumentException.class, () -> decoder.decode(feed));
+        assertEquals(feed.limit() - 1, feed.position());
+    }
+
+    @Test
+    @DisplayName("Should keep resolving handles while many matches start and finish")
+    void shouldResolveHandlesThroughChurn() {
+        ByteBuffer feed = ByteBuffer.allocate(1 << 20);
+        for (int team = 0; team < 2000; team++) {
+            team(feed, team * 7919, "Feed Team " + team);
+        }
+        for (int match = 0; match < 1000; match++) {
+            start(feed, match * 31, 2 * match * 7919, (2 * match + 1) * 7919);
+        }
+        for (int match = 0; match < 1000; match += 2) {
+            finish(feed, match * 31);
+        }
+        for (int match = 0; match < 1000; match++) {
+            score(feed, match * 31, match % 9, 0);
+        }
+        feed.flip();
+
+        decoder.decode(feed);
+
+        assertEquals(500, scoreboard.getMatchesCount());
+        assertEquals(500, decoder.getRejectedCount(), "scores of the finished half");
+        for (Match match : scoreboard.getSummary()) {
+            int index = Integer.parseInt(match.getHomeTeam().substring("Feed Team ".length())) / 2;
+            assertEquals(index % 9, match.getHomeScore());
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep the pending update of a restarted match when an old handle is rejected")
+    void shouldKeepCoalescedUpdateOfRestartedMatch() {
+        ScoreBoard coalescing = new ScoreBoard(Clock.systemUTC(), new ConcurrentMatchStore(), null, Duration.ofHours(1));
+        FeedDecoder feedDecoder = new FeedDecoder(coalescing);
+        ByteBuffer feed = ByteBuffer.allocate(256);
+        team(feed, 1, "CX");
+        team(feed, 2, "CY");
+        start(feed, 5, 1, 2);
+        feed.flip();
+        feedDecoder.decode(feed);
+
+        // Restart the match behind the decoder's back; its handle for match 5 is now stale
+        coalescing.finishMatch("CX", "CY");
+        coalescing.startMatch("CX", "CY");
+        coalescing.updateScore("CX", "CY", 3, 0);
+        feed.clear();
+        score(feed, 5, 1, 0);
+        feed.flip();
+        feedDecoder.decode(feed);
+
+        assertEquals(1, feedDecoder.getRejectedCount());
+        coalescing.flushPendingUpdates();
+        assertEquals("CX 3 - CY 0", coalescing.getSummary().get(0).toString());
+    }
+}
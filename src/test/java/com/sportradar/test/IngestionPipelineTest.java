@@ -0,0 +1,140 @@
+package com.sportradar.test;
+
+import com.sportradar.IngestionPipeline;
+import com.sportradar.Match;
+import com.sportradar.OffHeapMatchStore;
+import com.sportradar.ScoreBoard;
+import com.sportradar.ScoreCommand;
+import com.sportradar.SummarySnapshot;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IngestionPipelineTest {
+
+    @Test
+    @DisplayName("Should apply published commands in order")
+    void shouldApplyCommandsInOrder() {
+        ScoreBoard scoreboard = new ScoreBoard();
+        try (IngestionPipeline pipeline = IngestionPipeline.start(scoreboard, 8, false)) {
+            pipeline.publishStart("Mexico", "Canada");
+            pipeline.publishStart("Spain", "Brazil");
+            pipeline.publishUpdate("Mexico", "Canada", 0, 5);
+            pipeline.publish(ScoreCommand.update("Spain", "Brazil", 10, 2));
+            pipeline.publishFinish("Mexico", "Canada");
+            pipeline.flush();
+
+            List<Match> summary = scoreboard.getSummary();
+            assertEquals(1, summary.size());
+            assertEquals("Spain 10 - Brazil 2", summary.get(0).toString());
+            assertEquals(0, pipeline.getRejectedCount());
+        }
+    }
+
+    @Test
+    @DisplayName("Should count rejected commands and keep applying the rest")
+    void shouldCountRejectedCommands() {
+        ScoreBoard scoreboard = new ScoreBoard();
+        try (IngestionPipeline pipeline = IngestionPipeline.start(scoreboard, 4, false)) {
+            pipeline.publishUpdate("Mexico", "Canada", 1, 0);
+            pipeline.publishStart("Mexico", "Canada");
+            pipeline.publishStart("Mexico", "Canada");
+            pipeline.publishUpdate("Mexico", "Canada", -1, 0);
+            pipeline.publishUpdate("Mexico", "Canada", 2, 0);
+            pipeline.flush();
+
+            assertEquals(3, pipeline.getRejectedCount());
+            assertEquals(2, scoreboard.getSummary().get(0).getHomeScore());
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep the summary current when republishing after each batch")
+    void shouldRepublishSummary() {
+        ScoreBoard scoreboard = new ScoreBoard();
+        try (IngestionPipeline pipeline = IngestionPipeline.start(scoreboard, 16, true)) {
+            pipeline.publishStart("Mexico", "Canada");
+            pipeline.publishUpdate("Mexico", "Canada", 3, 0);
+            pipeline.flush();
+
+            SummarySnapshot snapshot = scoreboard.getSummarySnapshot();
+            assertEquals(2, snapshot.version());
+            assertEquals(3, snapshot.matches().get(0).getHomeScore());
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep each producer's commands in order across a wrapping ring")
+    void shouldOrderConcurrentProducers() throws InterruptedException {
+        ScoreBoard scoreboard = new ScoreBoard();
+        int producers = 4;
+        int updates = 20_000;
+        try (IngestionPipeline pipeline = IngestionPipeline.start(scoreboard, 64, true)) {
+            CountDownLatch go = new CountDownLatch(1);
+            List<Thread> threads = new ArrayList<>();
+            for (int p = 0; p < producers; p++) {
+                String home = "Pipeline Home " + p;
+                String away = "Pipeline Away " + p;
+                threads.add(Thread.ofPlatform().start(() -> {
+                    try {
+                        go.await();
+                    } catch (InterruptedException e) {
+                        throw new RuntimeException(e);
+                    }
+                    pipeline.publishStart(home, away);
+                    for (int goals = 1; goals <= updates; goals++) {
+                        pipeline.publishUpdate(home, away, goals, 0);
+                    }
+                }));
+            }
+            go.countDown();
+            for (Thread thread : threads) {
+                thread.join();
+            }
+            pipeline.flush();
+
+            assertEquals(0, pipeline.getRejectedCount());
+            assertEquals(producers, scoreboard.getMatchesCount());
+            for (Match match : scoreboard.getSummary()) {
+                assertEquals(updates, match.getHomeScore(), "the last update of " + match.getHomeTeam() + " was applied last");
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should apply pending commands on close and refuse later ones")
+    void shouldDrainOnClose() {
+        ScoreBoard scoreboard = new ScoreBoard();
+        IngestionPipeline pipeline = IngestionPipeline.start(scoreboard, 1024, false);
+        for (int i = 0; i < 500; i++) {
+            pipeline.publishStart("Closing Home " + i, "Closing Away " + i);
+        }
+        pipeline.close();
+
+        assertEquals(500, scoreboard.getMatchesCount());
+        assertThrows(IllegalStateException.class, () -> pipeline.publishStart("Mexico", "Canada"));
+    }
+
+    @Test
+    @DisplayName("Should close when the board fails with anything but a rejection")
+    void shouldCloseOnBoardFailure() {
+        OffHeapMatchStore store = new OffHeapMatchStore();
+        ScoreBoard scoreboard = new ScoreBoard(Clock.systemUTC(), store);
+        store.close();
+        try (IngestionPipeline pipeline = IngestionPipeline.start(scoreboard, 8, false)) {
+            pipeline.publishStart("Mexico", "Canada");
+
+            IllegalStateException closed = assertThrows(IllegalStateException.class, pipeline::flush);
+            assertInstanceOf(IllegalStateException.class, closed.getCause());
+            IllegalStateException refused = assertThrows(IllegalStateException.class, () -> pipeline.publishStart("Spain", "Brazil"));
+            assertSame(closed.getCause(), refused.getCause());
+            assertEquals(0, pipeline.getRejectedCount());
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.sportradar.test;
+
+import com.sportradar.LatencyHistogram;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyHistogramTest {
+
+    @Test
+    @DisplayName("Should report percentiles within the bucket precision and the exact maximum")
+    void shouldReportPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long nanos = 1; nanos <= 100_000; nanos++) {
+            histogram.record(nanos);
+        }
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals(100_000, snapshot.count());
+        assertEquals(50_000, snapshot.p50Nanos(), 50_000 / 64.0);
+        assertEquals(99_000, snapshot.p99Nanos(), 99_000 / 64.0);
+        assertEquals(99_900, snapshot.p999Nanos(), 99_900 / 64.0);
+        assertEquals(100_000, snapshot.maxNanos());
+        assertTrue(snapshot.p50Nanos() <= snapshot.p99Nanos() && snapshot.p99Nanos() <= snapshot.p999Nanos());
+    }
+
+    @Test
+    @DisplayName("Should report small values exactly and clamp out-of-range ones")
+    void shouldHandleExtremeValues() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(new LatencyHistogram.Snapshot(0, 0, 0, 0, 0), histogram.snapshot());
+
+        histogram.record(-5);
+        histogram.record(7);
+        histogram.record(Long.MAX_VALUE);
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals(3, snapshot.count());
+        assertEquals(7, snapshot.p50Nanos());
+        assertEquals((1L << 40) - 1, snapshot.maxNanos());
+        assertEquals(snapshot.maxNanos(), snapshot.p999Nanos());
+    }
+
+    @Test
+    @DisplayName("Should not lose values recorded concurrently")
+    void shouldCountConcurrentRecords() throws InterruptedException {
+        LatencyHistogram histogram = new LatencyHistogram();
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            threads.add(Thread.ofPlatform().start(() -> {
+                for (int i = 0; i < 100_000; i++) {
+                    histogram.record(1_000 + i % 3);
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals(800_000, snapshot.count());
+        assertEquals(1_002, snapshot.maxNanos());
+    }
+}
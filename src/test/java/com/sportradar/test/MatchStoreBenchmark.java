@@ -0,0 +1,140 @@
+package com.sportradar.test;
+
+import com.sportradar.ConcurrentMatchStore;
+import com.sportradar.Match;
+import com.sportradar.MatchStore;
+import com.sportradar.ScoreBoard;
+
+import java.time.Clock;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Supplier;
+
+/**
+ * Start/finish throughput of {@link ConcurrentMatchStore} against the original
+ * {@link CopyOnWriteArrayList} based board, at increasing writer thread counts.
+ * Every thread starts its own batch of matches and then finishes them, which is
+ * what a matchday kickoff followed by the final whistles looks like.
+ *
+ * <p>Not picked up by surefire (no {@code Test} suffix); run it with</p>
+ * <pre>{@code
+ * mvn test-compile
+ * java -cp target/classes:target/test-classes com.sportradar.test.MatchStoreBenchmark [matchesPerThread]
+ * }</pre>
+ */
+public class MatchStoreBenchmark {
+
+    private static final int[] THREAD_COUNTS = {1, 2, 4, 8};
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int MEASURED_ROUNDS = 5;
+
+    public static void main(String[] args) throws InterruptedException {
+        int matchesPerThread = args.length > 0 ? Integer.parseInt(args[0]) : 2_000;
+        System.out.printf("%-22s %8s %16s%n", "store", "threads", "start+finish/s");
+        for (int threads : THREAD_COUNTS) {
+            report("CopyOnWriteArrayList", CopyOnWriteMatchStore::new, threads, matchesPerThread);
+            report("ConcurrentMatchStore", ConcurrentMatchStore::new, threads, matchesPerThread);
+        }
+    }
+
+    private static void report(String name, Supplier<MatchStore> store, int threads, int matchesPerThread)
+            throws InterruptedException {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            run(store.get(), threads, matchesPerThread);
+        }
+        long bestNanos = Long.MAX_VALUE;
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            bestNanos = Math.min(bestNanos, run(store.get(), threads, matchesPerThread));
+        }
+        double opsPerSecond = (double) threads * matchesPerThread * 2 / (bestNanos / 1e9);
+        System.out.printf("%-22s %8d %,16.0f%n", name, threads, opsPerSecond);
+    }
+
+    private static long run(MatchStore store, int threads, int matchesPerThread) throws InterruptedException {
+        ScoreBoard board = new ScoreBoard(Clock.systemUTC(), store);
+        CountDownLatch go = new CountDownLatch(1);
+        Thread[] writers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            int thread = t;
+            writers[t] = new Thread(() -> {
+                awaitQuietly(go);
+                for (int i = 0; i < matchesPerThread; i++) {
+                    board.startMatch("Home " + thread + "-" + i, "Away " + thread + "-" + i);
+                }
+                for (int i = 0; i < matchesPerThread; i++) {
+                    board.finishMatch("Home " + thread + "-" + i, "Away " + thread + "-" + i);
+                }
+            });
+            writers[t].start();
+        }
+        long start = System.nanoTime();
+        go.countDown();
+        for (Thread writer : writers) {
+            writer.join();
+        }
+        return System.nanoTime() - start;
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * The storage the board used before {@link ConcurrentMatchStore}: every add and
+     * remove copies the backing array, lookups scan it, and the summary sorts a copy.
+     */
+    static final class CopyOnWriteMatchStore implements MatchStore {
+        private final List<Match> matches = new CopyOnWriteArrayList<>();
+
+        @Override
+        public synchronized boolean add(Match match) {
+            if (matches.contains(match)) {
+                return false;
+            }
+            return matches.add(match);
+        }
+
+        @Override
+        public Match get(long key) {
+            return matches.stream().filter(m -> m.getKey() == key).findFirst().orElse(null);
+        }
+
+        @Override
+        public boolean updateScore(Match match, int homeScore, int awayScore) {
+            if (!matches.contains(match)) {
+                return false;
+            }
+            match.updateScore(homeScore, awayScore);
+            return true;
+        }
+
+        @Override
+        public boolean reposition(Match match) {
+            return matches.contains(match);
+        }
+
+        @Override
+        public synchronized boolean remove(Match match) {
+            return matches.remove(match);
+        }
+
+        @Override
+        public List<Match> inSummaryOrder() {
+            return matches.stream()
+                    .sorted(Comparator.comparingInt(Match::getTotalScore).reversed()
+                            .thenComparing(Comparator.comparingLong(Match::getStartSequence).reversed()))
+                    .toList();
+        }
+
+        @Override
+        public int size() {
+            return matches.size();
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.sportradar.test;
+
+import com.sportradar.MatchdaySimulator;
+import com.sportradar.ScoreBoard;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MatchdaySimulatorTest {
+
+    private static MatchdaySimulator.Settings quickMatchday(int readers) {
+        // 90 simulated minutes in well under a second
+        return new MatchdaySimulator.Settings(40, 4, Duration.ofMinutes(5), Duration.ofMinutes(90),
+                3.0, 3, readers, Duration.ofMillis(1), 100_000, 42);
+    }
+
+    @Test
+    @DisplayName("Should start and finish every match and leave the board empty")
+    void shouldPlayWholeMatchday() {
+        ScoreBoard scoreboard = new ScoreBoard();
+        MatchdaySimulator.Report report = new MatchdaySimulator(quickMatchday(2)).run(scoreboard);
+
+        Map<String, MatchdaySimulator.OperationStats> stats = report.operations().stream()
+                .collect(Collectors.toMap(MatchdaySimulator.OperationStats::operation, Function.identity()));
+        assertEquals(40, stats.get("startMatch").count());
+        assertEquals(40, stats.get("finishMatch").count());
+        assertTrue(stats.containsKey("homeGoal") || stats.containsKey("awayGoal"), "some goals are scored");
+        assertEquals(0, scoreboard.getMatchesCount());
+        for (MatchdaySimulator.OperationStats operation : report.operations()) {
+            assertTrue(operation.p50Nanos() <= operation.p99Nanos());
+            assertTrue(operation.p99Nanos() <= operation.p999Nanos());
+            assertTrue(operation.p999Nanos() <= operation.maxNanos());
+        }
+    }
+
+    @Test
+    @DisplayName("Should schedule the same goals for the same seed")
+    void shouldBeRepeatable() {
+        MatchdaySimulator.Report first = new MatchdaySimulator(quickMatchday(0)).run(new ScoreBoard());
+        MatchdaySimulator.Report second = new MatchdaySimulator(quickMatchday(0)).run(new ScoreBoard());
+
+        assertEquals(first.operations().stream().map(MatchdaySimulator.OperationStats::count).toList(),
+                second.operations().stream().map(MatchdaySimulator.OperationStats::count).toList());
+    }
+
+    @Test
+    @DisplayName("Should reject invalid settings")
+    void shouldRejectInvalidSettings() {
+        assertThrows(IllegalArgumentException.class, () -> new MatchdaySimulator.Settings(0, 1, Duration.ZERO,
+                Duration.ofMinutes(90), 2.7, 1, 1, Duration.ZERO, 1, 1));
+        assertThrows(IllegalArgumentException.class, () -> new MatchdaySimulator.Settings(1, 1, Duration.ZERO,
+                Duration.ofMinutes(90), 2.7, 1, 1, Duration.ZERO, 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new MatchdaySimulator(null));
+    }
+}
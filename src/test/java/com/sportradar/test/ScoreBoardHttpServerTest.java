@@ -0,0 +1,130 @@
+package com.sportradar.test;
+
+import com.sportradar.OffHeapMatchStore;
+import com.sportradar.ScoreBoard;
+import com.sportradar.ScoreBoardHttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Clock;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScoreBoardHttpServerTest {
+    private final HttpClient client = HttpClient.newHttpClient();
+    private ScoreBoard scoreboard;
+    private ScoreBoardHttpServer server;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        scoreboard = new ScoreBoard();
+        server = ScoreBoardHttpServer.start(scoreboard, new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    private HttpResponse<String> send(String method, String path, String... headers) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + server.address().getPort() + path))
+                .method(method, HttpRequest.BodyPublishers.noBody());
+        if (headers.length > 0) {
+            request.headers(headers);
+        }
+        return client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    @Test
+    @DisplayName("Should start, update and finish matches over HTTP")
+    void shouldServeMatchLifecycle() throws Exception {
+        HttpResponse<String> started = send("POST", "/matches?home=Mexico&away=Canada");
+        assertEquals(201, started.statusCode());
+        assertEquals("{\"homeTeam\":\"Mexico\",\"awayTeam\":\"Canada\",\"homeScore\":0,\"awayScore\":0}", started.body());
+
+        HttpResponse<String> updated = send("PUT", "/matches/score?home=Mexico&away=Canada&homeScore=0&awayScore=5");
+        assertEquals(200, updated.statusCode());
+        assertEquals(5, scoreboard.getSummary().get(0).getAwayScore());
+
+        assertEquals(204, send("DELETE", "/matches?home=Mexico&away=Canada").statusCode());
+        assertEquals(0, scoreboard.getMatchesCount());
+    }
+
+    @Test
+    @DisplayName("Should serve the summary in order and honour limit")
+    void shouldServeSummary() throws Exception {
+        scoreboard.startMatch("Mexico", "Canada");
+        scoreboard.startMatch("Spain", "Brazil");
+        scoreboard.updateScore("Spain", "Brazil", 10, 2);
+
+        HttpResponse<String> summary = send("GET", "/summary");
+        assertEquals(200, summary.statusCode());
+        assertTrue(summary.body().indexOf("Spain") < summary.body().indexOf("Mexico"), summary.body());
+
+        HttpResponse<String> top = send("GET", "/summary?limit=1");
+        assertTrue(top.body().contains("Spain"));
+        assertFalse(top.body().contains("Mexico"));
+    }
+
+    @Test
+    @DisplayName("Should answer a poll of an unchanged summary with 304")
+    void shouldAnswerUnchangedSummaryWithNotModified() throws Exception {
+        scoreboard.startMatch("Mexico", "Canada");
+        HttpResponse<String> first = send("GET", "/summary");
+        String etag = first.headers().firstValue("ETag").orElseThrow();
+
+        HttpResponse<String> unchanged = send("GET", "/summary", "If-None-Match", etag);
+        assertEquals(304, unchanged.statusCode());
+
+        scoreboard.updateScore("Mexico", "Canada", 1, 0);
+        HttpResponse<String> changed = send("GET", "/summary", "If-None-Match", etag);
+        assertEquals(200, changed.statusCode());
+        assertNotEquals(etag, changed.headers().firstValue("ETag").orElseThrow());
+        assertTrue(changed.body().contains("\"homeScore\":1"));
+    }
+
+    @Test
+    @DisplayName("Should reject invalid requests with 400, unknown matches with 404, duplicate starts with 409 and unsupported methods with 405")
+    void shouldRejectInvalidRequests() throws Exception {
+        scoreboard.startMatch("Mexico", "Canada");
+
+        HttpResponse<String> duplicate = send("POST", "/matches?home=Mexico&away=Canada");
+        assertEquals(409, duplicate.statusCode());
+        assertTrue(duplicate.body().startsWith("{\"error\":"));
+
+        HttpResponse<String> unknown = send("DELETE", "/matches?home=Spain&away=Brazil");
+        assertEquals(404, unknown.statusCode());
+        assertEquals("{\"error\":\"Match Spain vs Brazil not found.\"}", unknown.body());
+        assertEquals(404, send("PUT", "/matches/score?home=Spain&away=Brazil&homeScore=1&awayScore=0").statusCode());
+
+        assertEquals(400, send("POST", "/matches?home=Spain&away=SPAIN").statusCode());
+        assertEquals(400, send("PUT", "/matches/score?home=Mexico&away=Canada&homeScore=x&awayScore=0").statusCode());
+        assertEquals(400, send("GET", "/summary?limit=-1").statusCode());
+        assertEquals(405, send("GET", "/matches").statusCode());
+    }
+
+    @Test
+    @DisplayName("Should answer other failures of the board with 500 and keep serving")
+    void shouldAnswerBoardFailuresWithServerError() throws Exception {
+        server.close();
+        OffHeapMatchStore store = new OffHeapMatchStore();
+        scoreboard = new ScoreBoard(Clock.systemUTC(), store);
+        server = ScoreBoardHttpServer.start(scoreboard, new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        store.close();
+
+        HttpResponse<String> failed = send("POST", "/matches?home=Mexico&away=Canada");
+        assertEquals(500, failed.statusCode());
+        assertTrue(failed.body().startsWith("{\"error\":"), failed.body());
+        assertEquals(500, send("PUT", "/matches/score?home=Mexico&away=Canada&homeScore=1&awayScore=0").statusCode());
+        assertEquals(405, send("GET", "/matches").statusCode());
+    }
+}
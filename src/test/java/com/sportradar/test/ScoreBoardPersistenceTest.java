@@ -0,0 +1,202 @@
+package com.sportradar.test;
+
+import com.sportradar.ConcurrentMatchStore;
+import com.sportradar.Match;
+import com.sportradar.ScoreBoard;
+import com.sportradar.ScoreBoardJournal;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScoreBoardPersistenceTest {
+
+    @TempDir
+    Path dir;
+
+    private ScoreBoard open(ScoreBoardJournal journal) {
+        return new ScoreBoard(Clock.systemUTC(), new ConcurrentMatchStore(), journal);
+    }
+
+    @Test
+    @DisplayName("Should restore matches in progress, scores and start order after a restart")
+    void shouldRestoreBoardFromJournal() throws IOException {
+        Path file = dir.resolve("scoreboard.journal");
+        List<Match> before;
+        try (ScoreBoardJournal journal = ScoreBoardJournal.open(file)) {
+            ScoreBoard scoreboard = open(journal);
+            scoreboard.startMatch("Mexico", "Canada");
+            scoreboard.startMatch("Spain", "Brazil");
+            scoreboard.startMatch("Germany", "France");
+            scoreboard.updateScore("Mexico", "Canada", 0, 5);
+            scoreboard.updateScore("Spain", "Brazil", 10, 2);
+            scoreboard.finishMatch("Germany", "France");
+            before = scoreboard.getSummary();
+        }
+
+        try (ScoreBoardJournal journal = ScoreBoardJournal.open(file)) {
+            ScoreBoard scoreboard = open(journal);
+            List<Match> after = scoreboard.getSummary();
+            assertEquals(before.stream().map(Match::toString).toList(), after.stream().map(Match::toString).toList());
+            for (int i = 0; i < before.size(); i++) {
+                assertEquals(before.get(i).getStartSequence(), after.get(i).getStartSequence());
+                assertEquals(before.get(i).getStartTime(), after.get(i).getStartTime());
+            }
+
+            // New matches continue the start order instead of reusing a finished match's sequence
+            Match restarted = scoreboard.startMatch("Germany", "France");
+            assertEquals(4, restarted.getStartSequence());
+        }
+    }
+
+    @Test
+    @DisplayName("Should leave the board unchanged when a mutation cannot be journaled")
+    void shouldNotApplyUnjournaledMutations() throws IOException {
+        Path file = dir.resolve("scoreboard.journal");
+        ScoreBoardJournal journal = ScoreBoardJournal.open(file);
+        ScoreBoard scoreboard = open(journal);
+        Match match = scoreboard.startMatch("Mexico", "Canada");
+        scoreboard.updateScore("Mexico", "Canada", 1, 0);
+        List<Match> before = scoreboard.getSummary();
+        long version = scoreboard.getVersion();
+        journal.close();
+
+        assertThrows(UncheckedIOException.class, () -> scoreboard.updateScore("Mexico", "Canada", 3, 0));
+        assertThrows(UncheckedIOException.class, () -> scoreboard.homeGoal("Mexico", "Canada"));
+        assertThrows(UncheckedIOException.class, () -> scoreboard.finishMatch("Mexico", "Canada"));
+        assertThrows(UncheckedIOException.class, () -> scoreboard.startMatch("Spain", "Brazil"));
+
+        assertEquals(new Match.Score(1, 0), match.getScore());
+        assertEquals(version, scoreboard.getVersion());
+        assertSame(before, scoreboard.getSummary());
+        try (ScoreBoardJournal reopened = ScoreBoardJournal.open(file)) {
+            assertEquals(List.of("Mexico 1 - Canada 0"), open(reopened).getSummary().stream().map(Match::toString).toList());
+        }
+    }
+
+    @Test
+    @DisplayName("Should report a coalesced update that cannot be written")
+    void shouldReportFailedCoalescedWrites() throws IOException, InterruptedException {
+        ScoreBoardJournal journal = ScoreBoardJournal.open(dir.resolve("scoreboard.journal"));
+        ScoreBoard scoreboard = new ScoreBoard(Clock.systemUTC(), new ConcurrentMatchStore(), journal, Duration.ofMillis(5));
+        Match mexico = scoreboard.startMatch("Mexico", "Canada");
+        scoreboard.startMatch("Spain", "Brazil");
+        journal.close();
+
+        scoreboard.updateScore("Mexico", "Canada", 1, 0);
+        IllegalStateException failed = assertThrows(IllegalStateException.class, scoreboard::flushPendingUpdates);
+        assertInstanceOf(UncheckedIOException.class, failed.getCause());
+        assertEquals(new Match.Score(0, 0), mexico.getScore());
+
+        // A failure in a scheduled flush is reported by the next update
+        scoreboard.updateScore("Mexico", "Canada", 2, 0);
+        Thread.sleep(200);
+        assertThrows(IllegalStateException.class, () -> scoreboard.updateScore("Spain", "Brazil", 1, 0));
+        assertEquals(new Match.Score(0, 0), mexico.getScore());
+        scoreboard.flushPendingUpdates();
+    }
+
+    @Test
+    @DisplayName("Should journal goals and corrections")
+    void shouldJournalGoals() throws IOException {
+        Path file = dir.resolve("scoreboard.journal");
+        try (ScoreBoardJournal journal = ScoreBoardJournal.open(file)) {
+            ScoreBoard scoreboard = open(journal);
+            scoreboard.startMatch("Mexico", "Canada");
+            scoreboard.homeGoal("Mexico", "Canada");
+            scoreboard.awayGoal("Mexico", "Canada");
+            scoreboard.homeGoal("Mexico", "Canada");
+            scoreboard.adjustScore("Mexico", "Canada", 0, -1);
+        }
+        try (ScoreBoardJournal journal = ScoreBoardJournal.open(file)) {
+            assertEquals("Mexico 2 - Canada 0", open(journal).getSummary().getFirst().toString());
+        }
+    }
+
+    @Test
+    @DisplayName("Should drop a torn last record and keep appending after it")
+    void shouldIgnoreTornTail() throws IOException {
+        Path file = dir.resolve("scoreboard.journal");
+        try (ScoreBoardJournal journal = ScoreBoardJournal.open(file)) {
+            ScoreBoard scoreboard = open(journal);
+            scoreboard.startMatch("A", "B");
+            scoreboard.updateScore("A", "B", 1, 0);
+        }
+        // File header (8) + start record (8 + 31): flip the last payload byte of the score record
+        long scoreRecord = 8 + 8 + 31;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{42}), scoreRecord + 8 + 16);
+        }
+
+        try (ScoreBoardJournal journal = ScoreBoardJournal.open(file)) {
+            ScoreBoard scoreboard = open(journal);
+            assertEquals("A 0 - B 0", scoreboard.getSummary().getFirst().toString());
+            scoreboard.updateScore("A", "B", 2, 2);
+        }
+        try (ScoreBoardJournal journal = ScoreBoardJournal.open(file)) {
+            assertEquals("A 2 - B 2", open(journal).getSummary().getFirst().toString());
+        }
+    }
+
+    @Test
+    @DisplayName("Should refuse to open a file that is not a scoreboard journal")
+    void shouldRejectForeignFile() throws IOException {
+        Path file = dir.resolve("not-a-journal");
+        Files.writeString(file, "hello");
+        assertThrows(IOException.class, () -> ScoreBoardJournal.open(file));
+    }
+
+    @Test
+    @DisplayName("Should restore a board from an exported snapshot")
+    void shouldRoundTripSnapshot() throws IOException {
+        Path file = dir.resolve("scoreboard.snapshot");
+        ScoreBoard original = new ScoreBoard();
+        original.startMatch("Mexico", "Canada");
+        original.startMatch("Spain", "Brazil");
+        original.startMatch("Germany", "France");
+        original.updateScore("Spain", "Brazil", 10, 2);
+        original.finishMatch("Mexico", "Canada");
+        original.exportSnapshot(file);
+
+        ScoreBoard restored = new ScoreBoard();
+        restored.importSnapshot(file);
+        List<Match> expected = original.getSummary();
+        List<Match> actual = restored.getSummary();
+        assertEquals(expected.stream().map(Match::toString).toList(), actual.stream().map(Match::toString).toList());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).getStartSequence(), actual.get(i).getStartSequence());
+            assertEquals(expected.get(i).getStartTime(), actual.get(i).getStartTime());
+        }
+        assertEquals(4, restored.startMatch("Mexico", "Canada").getStartSequence());
+
+        assertThrows(IllegalStateException.class, () -> restored.importSnapshot(file));
+    }
+
+    @Test
+    @DisplayName("Should reject a corrupt snapshot")
+    void shouldRejectCorruptSnapshot() throws IOException {
+        Path file = dir.resolve("scoreboard.snapshot");
+        ScoreBoard original = new ScoreBoard();
+        original.startMatch("Mexico", "Canada");
+        original.exportSnapshot(file);
+
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[bytes.length / 2] ^= 1;
+        Files.write(file, bytes);
+        ScoreBoard restored = new ScoreBoard();
+        assertThrows(IOException.class, () -> restored.importSnapshot(file));
+        assertEquals(0, restored.getMatchesCount());
+    }
+}
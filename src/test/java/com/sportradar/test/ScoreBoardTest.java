@@ -1,12 +1,44 @@
 package com.sportradar.test;
 
+import com.sportradar.BatchResult;
+import com.sportradar.ChangeSet;
+import com.sportradar.ConcurrentMatchStore;
+import com.sportradar.LatencyHistogram;
 import com.sportradar.Match;
+import com.sportradar.MatchStore;
+import com.sportradar.OffHeapMatchStore;
+import com.sportradar.PrimitiveMatchStore;
 import com.sportradar.ScoreBoard;
+import com.sportradar.ScoreCommand;
+import com.sportradar.SummaryChanges;
+import com.sportradar.SummaryDiff;
+import com.sportradar.SummaryPage;
+import com.sportradar.SummarySnapshot;
+import com.sportradar.TeamRegistry;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -65,6 +97,19 @@ class ScoreBoardTest {
         assertThrows(IllegalArgumentException.class, () -> scoreboard.updateScore("Germany", "France", 1, -5));
     }
 
+    @Test
+    @DisplayName("Should look up matches case-insensitively when updating, finishing and starting")
+    void shouldLookUpMatchesCaseInsensitively() {
+        scoreboard.startMatch("Germany", "France");
+        assertThrows(IllegalArgumentException.class, () -> scoreboard.startMatch("GERMANY", "france"));
+
+        scoreboard.updateScore("germany", "FRANCE", 2, 1);
+        assertEquals(2, scoreboard.getSummary().getFirst().getHomeScore());
+
+        scoreboard.finishMatch("GeRmAnY", "France");
+        assertEquals(0, scoreboard.getMatchesCount());
+    }
+
     @Test
     @DisplayName("Should finish an existing match")
     void shouldFinishMatch() {
@@ -90,25 +135,21 @@ class ScoreBoardTest {
 
     @Test
     @DisplayName("Should return summary ordered by total score (desc) and then by most recent start time (desc)")
-    void shouldReturnOrderedSummary() throws InterruptedException {
+    void shouldReturnOrderedSummary() {
         // Example matches as per requirements
         scoreboard.startMatch("Mexico", "Canada");
         scoreboard.updateScore("Mexico", "Canada", 0, 5); // Total 5
 
-        // Introduce a slight delay to ensure distinct start times for matches started close together
-        Thread.sleep(10);
+        // No delay needed: start sequences are distinct even when start times are equal
         scoreboard.startMatch("Spain", "Brazil");
         scoreboard.updateScore("Spain", "Brazil", 10, 2); // Total 12
 
-        Thread.sleep(10);
         scoreboard.startMatch("Germany", "France");
         scoreboard.updateScore("Germany", "France", 2, 2); // Total 4
 
-        Thread.sleep(10);
         scoreboard.startMatch("Uruguay", "Italy");
         scoreboard.updateScore("Uruguay", "Italy", 6, 6); // Total 12
 
-        Thread.sleep(10);
         scoreboard.startMatch("Argentina", "Australia");
         scoreboard.updateScore("Argentina", "Australia", 3, 1); // Total 4
 
@@ -149,8 +190,293 @@ class ScoreBoardTest {
         assertEquals(2, summary.get(4).getAwayScore());
 
         // Verify the order for same total scores
-        assertTrue(summary.get(0).getStartTime().isAfter(summary.get(1).getStartTime()));
-        assertTrue(summary.get(3).getStartTime().isAfter(summary.get(4).getStartTime()));
+        assertTrue(summary.get(0).getStartSequence() > summary.get(1).getStartSequence());
+        assertTrue(summary.get(3).getStartSequence() > summary.get(4).getStartSequence());
+    }
+
+    @Test
+    @DisplayName("Should reposition a match in the summary when its score changes")
+    void shouldRepositionMatchWhenScoreChanges() {
+        scoreboard.startMatch("Mexico", "Canada");
+        scoreboard.startMatch("Spain", "Brazil");
+        scoreboard.updateScore("Mexico", "Canada", 3, 0);
+        assertEquals("Mexico", scoreboard.getSummary().getFirst().getHomeTeam());
+
+        // Correcting the score back down puts the later-started match first again
+        scoreboard.updateScore("Mexico", "Canada", 0, 0);
+        List<Match> summary = scoreboard.getSummary();
+        assertEquals(2, summary.size());
+        assertEquals("Spain", summary.get(0).getHomeTeam());
+        assertEquals("Mexico", summary.get(1).getHomeTeam());
+
+        scoreboard.finishMatch("Spain", "Brazil");
+        assertEquals(List.of("Mexico"), scoreboard.getSummary().stream().map(Match::getHomeTeam).toList());
+    }
+
+    @Test
+    @DisplayName("Should break ties by start sequence when all matches start at the same instant")
+    void shouldBreakTiesByStartSequenceWithFixedClock() {
+        Clock fixed = Clock.fixed(Instant.parse("2026-06-11T19:00:00Z"), ZoneOffset.UTC);
+        ScoreBoard board = new ScoreBoard(fixed);
+        Match first = board.startMatch("Mexico", "Canada");
+        Match second = board.startMatch("Spain", "Brazil");
+
+        assertEquals(LocalDateTime.of(2026, 6, 11, 19, 0), first.getStartTime());
+        assertEquals(first.getStartTime(), second.getStartTime());
+        assertTrue(second.getStartSequence() > first.getStartSequence());
+        assertEquals(List.of(second, first), board.getSummary());
+    }
+
+    @Test
+    @DisplayName("Should publish one immutable summary snapshot per board version")
+    void shouldPublishSummarySnapshotPerVersion() {
+        scoreboard.startMatch("Mexico", "Canada");
+        SummarySnapshot first = scoreboard.getSummarySnapshot();
+        assertEquals(1, first.version());
+        assertSame(first, scoreboard.getSummarySnapshot());
+        assertSame(first.matches(), scoreboard.getSummary());
+        assertThrows(UnsupportedOperationException.class, () -> first.matches().clear());
+
+        scoreboard.startMatch("Spain", "Brazil");
+        scoreboard.updateScore("Mexico", "Canada", 1, 0);
+        SummarySnapshot second = scoreboard.getSummarySnapshot();
+        assertEquals(3, second.version());
+        assertEquals(3, scoreboard.getVersion());
+        assertEquals(1, first.matches().size());
+        assertEquals(List.of("Mexico", "Spain"), second.matches().stream().map(Match::getHomeTeam).toList());
+
+        // Failed mutations do not change the version
+        assertThrows(IllegalArgumentException.class, () -> scoreboard.finishMatch("Italy", "France"));
+        assertSame(second, scoreboard.getSummarySnapshot());
+    }
+
+    @Test
+    @DisplayName("Should return the leading k matches of the summary")
+    void shouldReturnTopMatches() {
+        scoreboard.startMatch("Mexico", "Canada");
+        scoreboard.startMatch("Spain", "Brazil");
+        scoreboard.startMatch("Germany", "France");
+        scoreboard.updateScore("Mexico", "Canada", 0, 5);
+
+        // Store path: nothing has been published for this version yet
+        assertEquals(List.of("Mexico", "Germany"), scoreboard.getTopMatches(2).stream().map(Match::getHomeTeam).toList());
+
+        // Snapshot path: agrees with the full summary
+        List<Match> summary = scoreboard.getSummary();
+        assertEquals(summary.subList(0, 2), scoreboard.getTopMatches(2));
+        assertEquals(summary, scoreboard.getTopMatches(10));
+        assertTrue(scoreboard.getTopMatches(0).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> scoreboard.getTopMatches(-1));
+    }
+
+    @Test
+    @DisplayName("Should page through one summary version while the board keeps changing")
+    void shouldPageThroughStableSummaryVersion() {
+        scoreboard.startMatch("Mexico", "Canada");
+        scoreboard.startMatch("Spain", "Brazil");
+        scoreboard.startMatch("Germany", "France");
+
+        SummaryPage first = scoreboard.getSummaryPage(0, 2);
+        assertEquals(List.of("Germany", "Spain"), first.matches().stream().map(Match::getHomeTeam).toList());
+        assertEquals(3, first.totalMatches());
+        assertTrue(first.hasNext());
+
+        // A goal moves Mexico to the top, but the cursor keeps walking the old version
+        scoreboard.updateScore("Mexico", "Canada", 1, 0);
+        SummaryPage second = scoreboard.getSummaryPage(first.version(), first.nextOffset(), 2);
+        assertEquals(first.version(), second.version());
+        assertEquals(List.of("Mexico"), second.matches().stream().map(Match::getHomeTeam).toList());
+        assertFalse(second.hasNext());
+
+        // An unknown version falls back to the current summary
+        SummaryPage fallback = scoreboard.getSummaryPage(first.version() + 100, 0, 1);
+        assertEquals(scoreboard.getVersion(), fallback.version());
+        assertEquals("Mexico", fallback.matches().getFirst().getHomeTeam());
+
+        assertTrue(scoreboard.getSummaryPage(10, 5).matches().isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> scoreboard.getSummaryPage(-1, 5));
+    }
+
+    @Test
+    @DisplayName("Should apply a batch of commands and report failures without stopping")
+    void shouldApplyBatchAndReportFailures() {
+        scoreboard.startMatch("Germany", "France");
+        BatchResult result = scoreboard.applyBatch(List.of(
+                ScoreCommand.start("Mexico", "Canada"),
+                ScoreCommand.update("Mexico", "Canada", 0, 1),
+                ScoreCommand.update("Italy", "Spain", 1, 0),
+                ScoreCommand.update("Mexico", "Canada", 0, 2),
+                ScoreCommand.start("Germany", "France"),
+                ScoreCommand.update("Germany", "France", -1, 0),
+                ScoreCommand.finish("Germany", "France"),
+                ScoreCommand.start("Spain", "Brazil")));
+
+        assertEquals(5, result.applied());
+        assertFalse(result.isSuccess());
+        assertEquals(List.of(2, 4, 5), result.failures().stream().map(BatchResult.Failure::index).toList());
+        assertEquals("Scores cannot be negative.", result.failures().get(2).message());
+
+        List<Match> summary = scoreboard.getSummary();
+        assertEquals(List.of("Mexico 0 - Canada 2", "Spain 0 - Brazil 0"), summary.stream().map(Match::toString).toList());
+    }
+
+    @Test
+    @DisplayName("Should apply goals and corrections in place and reorder the summary")
+    void shouldApplyGoalsAndCorrections() {
+        scoreboard.startMatch("Mexico", "Canada");
+        scoreboard.startMatch("Spain", "Brazil");
+
+        assertEquals(new Match.Score(1, 0), scoreboard.homeGoal("Mexico", "Canada"));
+        assertEquals(new Match.Score(1, 1), scoreboard.awayGoal("mexico", "canada"));
+        assertEquals("Mexico", scoreboard.getSummary().getFirst().getHomeTeam());
+
+        // Disallowed goal
+        assertEquals(new Match.Score(0, 1), scoreboard.adjustScore("Mexico", "Canada", -1, 0));
+        assertThrows(IllegalArgumentException.class, () -> scoreboard.adjustScore("Mexico", "Canada", -1, 0));
+        assertThrows(IllegalArgumentException.class, () -> scoreboard.homeGoal("Italy", "France"));
+        assertEquals("Mexico 0 - Canada 1", scoreboard.getSummary().getFirst().toString());
+    }
+
+    @Test
+    @DisplayName("Concurrent goals through the scoreboard are never lost")
+    void concurrentGoalsThroughScoreboardAreNotLost() throws InterruptedException {
+        scoreboard.startMatch("Mexico", "Canada");
+        scoreboard.startMatch("Spain", "Brazil");
+        Thread[] feeds = new Thread[4];
+        for (int i = 0; i < feeds.length; i++) {
+            feeds[i] = new Thread(() -> {
+                for (int g = 0; g < 1_000; g++) {
+                    scoreboard.homeGoal("Mexico", "Canada");
+                }
+            });
+            feeds[i].start();
+        }
+        for (Thread feed : feeds) {
+            feed.join();
+        }
+        List<Match> summary = scoreboard.getSummary();
+        assertEquals("Mexico 4000 - Canada 0", summary.getFirst().toString());
+        assertEquals(2, summary.size());
+    }
+
+    @Test
+    @DisplayName("Should stream summary diffs that rebuild the summary from the baseline")
+    void shouldStreamSummaryDiffs() throws InterruptedException {
+        scoreboard.startMatch("Mexico", "Canada");
+        scoreboard.startMatch("Spain", "Brazil");
+        SummaryChanges changes = scoreboard.changes();
+        BlockingQueue<SummaryDiff> received = new LinkedBlockingQueue<>();
+        changes.subscribe(new Flow.Subscriber<>() {
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            public void onNext(SummaryDiff diff) {
+                received.add(diff);
+            }
+
+            public void onError(Throwable throwable) {
+            }
+
+            public void onComplete() {
+            }
+        });
+        SummarySnapshot view = changes.baseline();
+
+        scoreboard.startMatch("Germany", "France");
+        scoreboard.updateScore("Mexico", "Canada", 2, 0);
+        scoreboard.finishMatch("Spain", "Brazil");
+        scoreboard.awayGoal("Germany", "France");
+        long target = scoreboard.getVersion();
+
+        while (view.version() < target) {
+            SummaryDiff diff = received.poll(5, TimeUnit.SECONDS);
+            assertNotNull(diff, "no diff up to version " + target);
+            if (diff.toVersion() > view.version()) {
+                assertEquals(view.version(), diff.fromVersion());
+                view = new SummarySnapshot(diff.toVersion(), diff.applyTo(view.matches()));
+            }
+        }
+        assertEquals(scoreboard.getSummary(), view.matches());
+        changes.close();
+    }
+
+    @Test
+    @DisplayName("A goal that lifts a match to the top is a score change plus one rank move")
+    void shouldEmitCompactDiffForOneGoal() throws InterruptedException {
+        for (int i = 0; i < 10; i++) {
+            scoreboard.startMatch("Home " + i, "Away " + i);
+        }
+        SummaryChanges changes = scoreboard.changes();
+        BlockingQueue<SummaryDiff> received = new LinkedBlockingQueue<>();
+        changes.subscribe(new Flow.Subscriber<>() {
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            public void onNext(SummaryDiff diff) {
+                received.add(diff);
+            }
+
+            public void onError(Throwable throwable) {
+            }
+
+            public void onComplete() {
+            }
+        });
+        long before = changes.baseline().version();
+        scoreboard.homeGoal("Home 0", "Away 0");
+
+        SummaryDiff diff = received.poll(5, TimeUnit.SECONDS);
+        assertNotNull(diff);
+        assertEquals(before, diff.fromVersion());
+        Match scorer = scoreboard.getSummary().getFirst();
+        assertEquals(List.of(new SummaryDiff.ScoreChanged(scorer, new Match.Score(1, 0)),
+                new SummaryDiff.RankMoved(scorer, 9, 0)), diff.changes());
+        changes.close();
+    }
+
+    @Test
+    @DisplayName("Should return only the matches touched since a version")
+    void shouldReturnChangesSinceVersion() {
+        Match mexico = scoreboard.startMatch("Mexico", "Canada");
+        Match spain = scoreboard.startMatch("Spain", "Brazil");
+        Match germany = scoreboard.startMatch("Germany", "France");
+        long seen = scoreboard.getVersion();
+
+        scoreboard.updateScore("Mexico", "Canada", 1, 0);
+        scoreboard.homeGoal("Mexico", "Canada");
+        scoreboard.finishMatch("Spain", "Brazil");
+        Match italy = scoreboard.startMatch("Italy", "Spain");
+
+        ChangeSet changes = scoreboard.changesSince(seen);
+        assertFalse(changes.fullSnapshot());
+        assertEquals(seen, changes.fromVersion());
+        assertEquals(scoreboard.getVersion(), changes.toVersion());
+        assertEquals(List.of(mexico, italy), changes.changed());
+        assertEquals(List.of(spain), changes.finished());
+        assertFalse(changes.changed().contains(germany));
+
+        ChangeSet nothing = scoreboard.changesSince(changes.toVersion());
+        assertTrue(nothing.changed().isEmpty());
+        assertTrue(nothing.finished().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should fall back to the full board when the change log has been trimmed")
+    void shouldFallBackToFullBoardForTrimmedVersion() {
+        scoreboard.startMatch("Mexico", "Canada");
+        for (int i = 0; i < 5_000; i++) {
+            scoreboard.homeGoal("Mexico", "Canada");
+        }
+        scoreboard.startMatch("Spain", "Brazil");
+
+        ChangeSet changes = scoreboard.changesSince(1);
+        assertTrue(changes.fullSnapshot());
+        assertEquals(scoreboard.getSummary(), changes.changed());
+        assertEquals(scoreboard.getVersion(), changes.toVersion());
+
+        assertTrue(scoreboard.changesSince(scoreboard.getVersion() + 10).fullSnapshot());
     }
 
     @Test
@@ -161,6 +487,82 @@ class ScoreBoardTest {
         assertEquals("TestHome 2 - TestAway 1", match.toString());
     }
 
+    @Test
+    @DisplayName("Match score compare-and-set succeeds only against the current score")
+    void matchCompareAndSetScore() {
+        Match match = new Match("TestHome", "TestAway");
+        assertTrue(match.compareAndSetScore(0, 0, 1, 0));
+        assertFalse(match.compareAndSetScore(0, 0, 2, 0));
+        assertEquals(new Match.Score(1, 0), match.getScore());
+        assertThrows(IllegalArgumentException.class, () -> match.compareAndSetScore(1, 0, -1, 0));
+    }
+
+    @Test
+    @DisplayName("Concurrent goal increments on a match are never lost")
+    void concurrentIncrementsAreNotLost() throws InterruptedException {
+        Match match = new Match("TestHome", "TestAway");
+        int threads = 4;
+        int goalsPerThread = 10_000;
+        Thread[] workers = new Thread[threads];
+        for (int i = 0; i < threads; i++) {
+            boolean home = i % 2 == 0;
+            workers[i] = new Thread(() -> {
+                for (int g = 0; g < goalsPerThread; g++) {
+                    if (home) {
+                        match.incrementHomeScore();
+                    } else {
+                        match.incrementAwayScore();
+                    }
+                }
+            });
+            workers[i].start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        assertEquals(new Match.Score(2 * goalsPerThread, 2 * goalsPerThread), match.getScore());
+    }
+
+    @Test
+    @DisplayName("Should list every match exactly once while scores change concurrently")
+    void summaryKeepsEveryMatchDuringConcurrentUpdates() throws InterruptedException {
+        int matchCount = 200;
+        for (int i = 0; i < matchCount; i++) {
+            scoreboard.startMatch("Walk Home " + i, "Walk Away " + i);
+        }
+        AtomicBoolean writing = new AtomicBoolean(true);
+        AtomicInteger wrongSummaries = new AtomicInteger();
+        Thread writer = new Thread(() -> {
+            Random random = new Random(3);
+            for (int u = 0; u < 50_000; u++) {
+                int i = random.nextInt(matchCount);
+                scoreboard.updateScore("Walk Home " + i, "Walk Away " + i, random.nextInt(6), random.nextInt(6));
+            }
+            writing.set(false);
+        });
+        Thread[] readers = new Thread[2];
+        for (int r = 0; r < readers.length; r++) {
+            boolean top = r == 0;
+            readers[r] = new Thread(() -> {
+                while (writing.get()) {
+                    List<Match> summary = top ? scoreboard.getTopMatches(matchCount) : scoreboard.getSummary();
+                    if (summary.size() != matchCount || Set.copyOf(summary).size() != matchCount) {
+                        wrongSummaries.incrementAndGet();
+                    }
+                }
+            });
+        }
+        writer.start();
+        for (Thread reader : readers) {
+            reader.start();
+        }
+        writer.join();
+        for (Thread reader : readers) {
+            reader.join();
+        }
+        assertEquals(0, wrongSummaries.get(), "summaries that missed or repeated a match");
+    }
+
     @Test
     @DisplayName("Should throw IllegalArgumentException if team names are null or empty")
     void shouldThrowExceptionForInvalidTeamNames() {
@@ -174,4 +576,340 @@ class ScoreBoardTest {
     void shouldThrowExceptionForSameTeams() {
         assertThrows(IllegalArgumentException.class, () -> new Match("TeamA", "TeamA"));
     }
+
+    @Test
+    @DisplayName("Should give every spelling of a team the same id and not register names that are only looked up")
+    void shouldInternTeamNamesCaseInsensitively() {
+        TeamRegistry teams = new TeamRegistry();
+        int mexico = teams.register("Mexico");
+
+        assertEquals(mexico, teams.register("MEXICO"));
+        assertEquals(mexico, teams.find("mexico"));
+        assertNotEquals(mexico, teams.register("Canada"));
+        assertEquals("mexico", teams.canonicalName(mexico));
+        assertEquals(TeamRegistry.UNKNOWN, teams.find("Atlantis"));
+        assertEquals(2, teams.size());
+
+        scoreboard.startMatch("Mexico", "Canada");
+        scoreboard.startMatch("Canada Reserves", "Mexico Reserves");
+        assertEquals(Match.key("Mexico", "Canada"), Match.key("mexico", "CANADA"));
+        assertNotEquals(Match.key("Mexico", "Canada"), Match.key("Canada", "Mexico"));
+        assertEquals(Match.NO_KEY, Match.key("Mexico", "Atlantis"));
+    }
+
+    @Test
+    @DisplayName("Should forget a team once every registration of it is released, without reusing its id")
+    void shouldForgetReleasedTeams() {
+        TeamRegistry teams = new TeamRegistry();
+        int mexico = teams.register("Mexico");
+        assertEquals(mexico, teams.register("MEXICO"));
+
+        teams.release(mexico);
+        assertEquals(mexico, teams.find("Mexico"), "still held by the second registration");
+        teams.release(mexico);
+        assertEquals(TeamRegistry.UNKNOWN, teams.find("Mexico"));
+        assertEquals(0, teams.size());
+        assertThrows(IllegalArgumentException.class, () -> teams.release(mexico));
+        assertNotEquals(mexico, teams.register("Mexico"));
+    }
+
+    @Test
+    @DisplayName("Should only keep the teams of matches in progress in the shared registry")
+    void shouldNotGrowSharedRegistryWithRejectedOrFinishedMatches() {
+        TeamRegistry teams = TeamRegistry.shared();
+        assertThrows(IllegalArgumentException.class, () -> scoreboard.startMatch("Growth Same", "GROWTH SAME"));
+        assertThrows(IllegalArgumentException.class, () -> scoreboard.updateScore("Growth Ghost", "Growth Phantom", 1, 0));
+        assertThrows(IllegalArgumentException.class, () -> scoreboard.finishMatch("Growth Ghost", "Growth Phantom"));
+        assertEquals(TeamRegistry.UNKNOWN, teams.find("Growth Same"));
+        assertEquals(TeamRegistry.UNKNOWN, teams.find("Growth Ghost"));
+        assertEquals(TeamRegistry.UNKNOWN, teams.find("Growth Phantom"));
+
+        Match first = scoreboard.startMatch("Growth Home", "Growth Away");
+        assertThrows(IllegalArgumentException.class, () -> scoreboard.startMatch("GROWTH HOME", "growth away"));
+        scoreboard.startMatch("Growth Away", "Growth Visitor");
+        scoreboard.finishMatch("Growth Home", "Growth Away");
+        assertEquals(TeamRegistry.UNKNOWN, teams.find("Growth Home"));
+        assertNotEquals(TeamRegistry.UNKNOWN, teams.find("Growth Away"), "still playing another match");
+
+        scoreboard.finishMatch("Growth Away", "Growth Visitor");
+        assertEquals(TeamRegistry.UNKNOWN, teams.find("Growth Away"));
+        assertEquals(TeamRegistry.UNKNOWN, teams.find("Growth Visitor"));
+        Match restarted = scoreboard.startMatch("Growth Home", "Growth Away");
+        assertNotEquals(first, restarted);
+        assertSame(restarted, scoreboard.getSummary().get(0));
+    }
+
+    @Test
+    @DisplayName("Should give the teams of a start back when the store fails")
+    void shouldReleaseTeamsWhenStoreRejectsStart() {
+        OffHeapMatchStore store = new OffHeapMatchStore();
+        ScoreBoard board = new ScoreBoard(Clock.systemUTC(), store);
+        store.close();
+
+        assertThrows(IllegalStateException.class, () -> board.startMatch("Growth Closed Home", "Growth Closed Away"));
+        assertEquals(TeamRegistry.UNKNOWN, TeamRegistry.shared().find("Growth Closed Home"));
+        assertEquals(TeamRegistry.UNKNOWN, TeamRegistry.shared().find("Growth Closed Away"));
+    }
+
+    @Test
+    @DisplayName("Should keep finding matches while many are started, finished and restarted")
+    void shouldFindMatchesThroughIndexChurn() {
+        int count = 5_000;
+        for (int i = 0; i < count; i++) {
+            scoreboard.startMatch("Churn Home " + i, "Churn Away " + i);
+        }
+        for (int i = 0; i < count; i += 2) {
+            scoreboard.finishMatch("Churn Home " + i, "Churn Away " + i);
+        }
+        for (int i = 0; i < count; i += 4) {
+            scoreboard.startMatch("CHURN HOME " + i, "churn away " + i);
+        }
+
+        assertEquals(count / 2 + count / 4, scoreboard.getMatchesCount());
+        for (int i = 0; i < count; i++) {
+            boolean playing = i % 2 == 1 || i % 4 == 0;
+            int home = i;
+            if (playing) {
+                scoreboard.updateScore("churn home " + i, "Churn Away " + i, 1, 0);
+            } else {
+                assertThrows(IllegalArgumentException.class, () -> scoreboard.homeGoal("Churn Home " + home, "Churn Away " + home));
+            }
+        }
+        assertThrows(IllegalArgumentException.class, () -> scoreboard.finishMatch("Never Registered", "Churn Away 1"));
+    }
+
+    @Test
+    @DisplayName("Should keep the same summary order with the struct-of-arrays store")
+    void shouldMatchSummaryOrderWithPrimitiveStore() {
+        assertSameSummaryAsDefaultStore(new PrimitiveMatchStore());
+    }
+
+    @Test
+    @DisplayName("Should leave a match untouched when the struct-of-arrays store rejects its score")
+    void shouldKeepMatchWhenPrimitiveStoreRejectsScore() {
+        assertRejectedScoreLeavesMatch(new PrimitiveMatchStore());
+    }
+
+    @Test
+    @DisplayName("Should keep the same summary order with the off-heap store and reject use after close")
+    void shouldMatchSummaryOrderWithOffHeapStore() {
+        OffHeapMatchStore store = new OffHeapMatchStore();
+        try (store) {
+            assertSameSummaryAsDefaultStore(store);
+        }
+        assertThrows(IllegalStateException.class, () -> store.get(Match.key("Soa Home 1", "Soa Away 1")));
+        assertThrows(IllegalStateException.class, store::inSummaryOrder);
+    }
+
+    @Test
+    @DisplayName("Should leave a match untouched when the off-heap store rejects its score")
+    void shouldKeepMatchWhenOffHeapStoreRejectsScore() {
+        try (OffHeapMatchStore store = new OffHeapMatchStore()) {
+            assertRejectedScoreLeavesMatch(store);
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject a coalesced score the store cannot hold on the caller's thread")
+    void shouldRejectOutOfRangeCoalescedScore() {
+        ScoreBoard coalescing = new ScoreBoard(Clock.systemUTC(), new PrimitiveMatchStore(), null, Duration.ofHours(1));
+        Match match = coalescing.startMatch("Range Home", "Range Away");
+
+        assertThrows(IllegalArgumentException.class, () -> coalescing.updateScore("Range Home", "Range Away", 2_000_000, 0));
+        coalescing.updateScore("Range Home", "Range Away", 1, 0);
+        coalescing.flushPendingUpdates();
+        assertEquals(new Match.Score(1, 0), match.getScore());
+    }
+
+    private static ScoreBoard coalescingBoard(Duration window) {
+        return new ScoreBoard(Clock.systemUTC(), new ConcurrentMatchStore(), null, window);
+    }
+
+    @Test
+    @DisplayName("Should write only the last of a burst of coalesced updates")
+    void shouldCoalesceUpdatesOfOneMatch() {
+        ScoreBoard board = coalescingBoard(Duration.ofHours(1));
+        board.startMatch("Mexico", "Canada");
+        board.startMatch("Spain", "Brazil");
+        long version = board.getVersion();
+
+        for (int goals = 1; goals <= 50; goals++) {
+            board.updateScore("Mexico", "Canada", goals, 0);
+        }
+        board.updateScore("Spain", "Brazil", 0, 1);
+        assertEquals(version, board.getVersion(), "nothing is written before the window ends");
+        assertEquals(0, board.getSummary().get(1).getTotalScore());
+
+        board.flushPendingUpdates();
+        assertEquals(version + 2, board.getVersion(), "one write per distinct match");
+        assertEquals("Mexico 50 - Canada 0", board.getSummary().get(0).toString());
+        assertThrows(IllegalArgumentException.class, () -> board.updateScore("Mexico", "Spain", 1, 0));
+    }
+
+    @Test
+    @DisplayName("Should keep goals, batches and finishes ordered after a pending update")
+    void shouldOrderDirectWritesAfterCoalescedUpdates() {
+        ScoreBoard board = coalescingBoard(Duration.ofHours(1));
+        board.startMatch("Mexico", "Canada");
+        board.startMatch("Spain", "Brazil");
+
+        board.updateScore("Mexico", "Canada", 3, 0);
+        assertEquals(new Match.Score(4, 0), board.homeGoal("Mexico", "Canada"));
+
+        board.updateScore("Spain", "Brazil", 5, 0);
+        board.applyBatch(List.of(ScoreCommand.update("Spain", "Brazil", 1, 1)));
+
+        board.updateScore("Mexico", "Canada", 9, 9);
+        board.finishMatch("Mexico", "Canada");
+        board.startMatch("Mexico", "Canada");
+
+        board.flushPendingUpdates();
+        assertEquals(List.of("Spain 1 - Brazil 1", "Mexico 0 - Canada 0"), describe(board.getSummary()));
+    }
+
+    @Test
+    @DisplayName("Should write coalesced updates once the window has passed")
+    void shouldFlushCoalescedUpdatesAfterWindow() throws InterruptedException {
+        ScoreBoard board = coalescingBoard(Duration.ofMillis(20));
+        board.startMatch("Mexico", "Canada");
+        board.updateScore("Mexico", "Canada", 2, 1);
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (board.getSummary().get(0).getTotalScore() != 3 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals("Mexico 2 - Canada 1", board.getSummary().get(0).toString());
+    }
+
+    @Test
+    @DisplayName("Should record the latency of every successful operation")
+    void shouldRecordOperationLatencies() {
+        ScoreBoard board = latencyBoard(true);
+        board.startMatch("Mexico", "Canada");
+        board.startMatch("Spain", "Brazil");
+        board.updateScore("Mexico", "Canada", 0, 5);
+        assertThrows(IllegalArgumentException.class, () -> board.updateScore("Mexico", "Brazil", 1, 0));
+        board.getSummary();
+        board.getTopMatches(1);
+        board.getSummarySnapshot();
+        board.finishMatch("Mexico", "Canada");
+
+        Map<String, LatencyHistogram.Snapshot> latencies = board.getLatencies();
+        assertEquals(List.of("startMatch", "updateScore", "finishMatch", "getSummary", "getTopMatches"), List.copyOf(latencies.keySet()));
+        assertEquals(2, latencies.get("startMatch").count());
+        assertEquals(1, latencies.get("updateScore").count(), "failed calls are not recorded");
+        assertEquals(1, latencies.get("finishMatch").count());
+        assertEquals(1, latencies.get("getSummary").count(), "snapshot reads are not recorded");
+        assertEquals(1, latencies.get("getTopMatches").count());
+        assertTrue(latencies.get("startMatch").maxNanos() > 0);
+    }
+
+    @Test
+    @DisplayName("Should not record latencies on a board that does not ask for them, next to one that does")
+    void shouldNotRecordLatenciesWhenDisabled() {
+        ScoreBoard quiet = latencyBoard(false);
+        ScoreBoard timed = latencyBoard(true);
+        for (ScoreBoard board : List.of(quiet, timed)) {
+            board.startMatch("Mexico", "Canada");
+            board.updateScore("Mexico", "Canada", 0, 5);
+            board.getSummary();
+            board.getTopMatches(1);
+            board.finishMatch("Mexico", "Canada");
+        }
+
+        assertEquals(Map.of(), quiet.getLatencies());
+        assertEquals(1, timed.getLatencies().get("startMatch").count());
+    }
+
+    private static ScoreBoard latencyBoard(boolean recordLatencies) {
+        return new ScoreBoard(Clock.systemUTC(), new ConcurrentMatchStore(), null, null, recordLatencies);
+    }
+
+    @Test
+    @DisplayName("Should emit Flight Recorder events for starts, scores, finishes and summary rebuilds")
+    void shouldEmitFlightRecorderEvents() throws Exception {
+        Path dump = Files.createTempFile("scoreboard", ".jfr");
+        try (Recording recording = new Recording()) {
+            for (String event : List.of("MatchStarted", "ScoreUpdated", "MatchFinished", "SummaryBuilt")) {
+                recording.enable("com.sportradar." + event).withThreshold(Duration.ZERO);
+            }
+            recording.start();
+            scoreboard.startMatch("Jfr Home", "Jfr Away");
+            scoreboard.updateScore("Jfr Home", "Jfr Away", 2, 0);
+            scoreboard.awayGoal("Jfr Home", "Jfr Away");
+            scoreboard.getSummary();
+            scoreboard.finishMatch("Jfr Home", "Jfr Away");
+            recording.stop();
+            recording.dump(dump);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(dump);
+        Files.delete(dump);
+        List<String> names = events.stream().map(event -> event.getEventType().getName()).toList();
+        assertEquals(List.of("com.sportradar.MatchStarted", "com.sportradar.ScoreUpdated", "com.sportradar.ScoreUpdated",
+                "com.sportradar.SummaryBuilt", "com.sportradar.MatchFinished"), names);
+        assertEquals(1, events.get(2).getInt("awayScore"));
+        assertEquals(1, events.get(3).getInt("size"));
+        assertEquals("Jfr Home", events.get(4).getString("homeTeam"));
+        assertEquals(3, events.get(4).getInt("homeScore") + events.get(4).getInt("awayScore"));
+    }
+
+    private static void assertSameSummaryAsDefaultStore(MatchStore store) {
+        ScoreBoard reference = new ScoreBoard(Clock.systemUTC(), new ConcurrentMatchStore());
+        ScoreBoard board = new ScoreBoard(Clock.systemUTC(), store);
+        Random random = new Random(7);
+        // More teams than the off-heap store's initial capacity, so it grows under churn
+        for (int step = 0; step < 20_000; step++) {
+            int team = random.nextInt(3_000);
+            String home = "Soa Home " + team;
+            String away = "Soa Away " + team;
+            boolean playing = store.get(Match.key(home, away)) != null;
+            if (!playing) {
+                reference.startMatch(home, away);
+                board.startMatch(home, away);
+            } else if (random.nextInt(10) == 0) {
+                reference.finishMatch(home, away);
+                board.finishMatch(home, away);
+            } else {
+                int homeScore = random.nextInt(6);
+                int awayScore = random.nextInt(6);
+                reference.updateScore(home, away, homeScore, awayScore);
+                board.updateScore(home, away, homeScore, awayScore);
+            }
+            // Before any summary is published, so the stores' own top-k is compared
+            if (step % 1_000 == 999) {
+                assertEquals(describe(reference.getTopMatches(50)), describe(board.getTopMatches(50)));
+            }
+        }
+
+        assertEquals(reference.getMatchesCount(), board.getMatchesCount());
+        assertEquals(describe(reference.getTopMatches(5)), describe(board.getTopMatches(5)));
+        assertEquals(describe(reference.getSummary()), describe(board.getSummary()));
+        Match leader = board.getSummary().getFirst();
+        assertSame(leader, board.getTopMatches(1).getFirst());
+    }
+
+    private static void assertRejectedScoreLeavesMatch(MatchStore store) {
+        ScoreBoard board = new ScoreBoard(Clock.systemUTC(), store);
+        String home = "Limit Home " + store.getClass().getSimpleName();
+        String away = "Limit Away " + store.getClass().getSimpleName();
+        Match match = board.startMatch(home, away);
+        board.updateScore(home, away, 1, 0);
+        List<Match> summary = board.getSummary();
+        long version = board.getVersion();
+
+        assertThrows(IllegalArgumentException.class, () -> board.updateScore(home, away, 2_000_000, 0));
+        assertThrows(IllegalArgumentException.class, () -> board.updateScore(home, away, Integer.MAX_VALUE, 1));
+        assertThrows(IllegalArgumentException.class, () -> board.adjustScore(home, away, 2_000_000, 0));
+
+        assertEquals(new Match.Score(1, 0), match.getScore());
+        assertEquals(version, board.getVersion());
+        assertSame(summary, board.getSummary());
+        assertEquals(new Match.Score(2, 0), board.homeGoal(home, away));
+        assertEquals(List.of(home + " 2 - " + away + " 0"), describe(board.getTopMatches(1)));
+    }
+
+    private static List<String> describe(List<Match> matches) {
+        return matches.stream().map(Match::toString).toList();
+    }
 }